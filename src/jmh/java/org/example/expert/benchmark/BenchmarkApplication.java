@@ -0,0 +1,118 @@
+package org.example.expert.benchmark;
+
+import org.example.expert.ExpertApplication;
+import org.example.expert.config.IdGeneratorInitializer;
+import org.example.expert.domain.user.service.NicknameAutocompleteIndex;
+import org.example.expert.domain.user.service.UserNicknameIndex;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트.
+ * H2 인메모리 DB(MySQL 모드)로 기동한 뒤 users, todos, managers, comments 데이터를 고정 시드로 채운다.
+ */
+public final class BenchmarkApplication {
+
+    public static final int USER_COUNT = 10_000;
+    public static final int TODO_COUNT = 50_000;
+    public static final int COMMENTS_PER_TODO = 3;
+    public static final String[] WEATHERS = {"Sunny", "Cloudy", "Rainy", "Snowy"};
+    public static final String JWT_SECRET_KEY = "YmVuY2htYXJrLXNlY3JldC1rZXktZm9yLWptaC1vbmx5LTAxMjM0NTY3ODk=";
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final long SEED = 42L;
+
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(String... additionalProperties) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ExpertApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=create",
+                        "spring.jpa.show-sql=false",
+                        "jwt.secret.key=" + JWT_SECRET_KEY,
+                        "cloud.aws.credentials.access-key=benchmark",
+                        "cloud.aws.credentials.secret-key=benchmark",
+                        "cloud.aws.region.static=ap-northeast-2",
+                        "cloud.aws.s3.bucketName=benchmark",
+                        "cloud.aws.stack.auto=false",
+                        "logging.level.root=WARN"
+                )
+                // 호출 측 설정이 기본 설정을 덮어쓰도록 마지막에 적용
+                .properties(additionalProperties)
+                .run();
+
+        seed(context.getBean(JdbcTemplate.class));
+        context.getBean(IdGeneratorInitializer.class).synchronize();
+        // 기동 시점에는 데이터가 없으므로 시드 후 닉네임 색인을 다시 만듦
+        context.getBean(UserNicknameIndex.class).rebuild();
+        context.getBean(NicknameAutocompleteIndex.class).rebuild();
+        return context;
+    }
+
+    public static String nickname(int userId) {
+        return "nick" + userId;
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate) {
+        Random random = new Random(SEED);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+        List<Object[]> users = new ArrayList<>();
+        for (int id = 1; id <= USER_COUNT; id++) {
+            Timestamp createdAt = Timestamp.valueOf(base.plusMinutes(id));
+            users.add(new Object[]{id, "user" + id + "@example.com", "password", "ROLE_USER", nickname(id), createdAt, createdAt});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO users (id, email, password, user_role, nickname, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                users, BATCH_SIZE, BenchmarkApplication::setValues
+        );
+
+        List<Object[]> todos = new ArrayList<>();
+        List<Object[]> managers = new ArrayList<>();
+        List<Object[]> comments = new ArrayList<>();
+        long commentId = 1;
+        for (int id = 1; id <= TODO_COUNT; id++) {
+            int userId = 1 + random.nextInt(USER_COUNT);
+            Timestamp time = Timestamp.valueOf(base.plusSeconds(id * 60L + random.nextInt(60)));
+            todos.add(new Object[]{id, "title " + id, "contents " + id, WEATHERS[random.nextInt(WEATHERS.length)],
+                    userId, 1, COMMENTS_PER_TODO, time, time});
+            managers.add(new Object[]{id, userId, id});
+            for (int c = 0; c < COMMENTS_PER_TODO; c++) {
+                comments.add(new Object[]{commentId++, "comment", 1 + random.nextInt(USER_COUNT), id, time, time});
+            }
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO todos (id, title, contents, weather, user_id, manager_count, comment_count, created_at, modified_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                todos, BATCH_SIZE, BenchmarkApplication::setValues
+        );
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO managers (id, user_id, todo_id) VALUES (?, ?, ?)",
+                managers, BATCH_SIZE, BenchmarkApplication::setValues
+        );
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO comments (id, contents, user_id, todo_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)",
+                comments, BATCH_SIZE, BenchmarkApplication::setValues
+        );
+    }
+
+    private static void setValues(PreparedStatement ps, Object[] row) throws SQLException {
+        for (int i = 0; i < row.length; i++) {
+            ps.setObject(i + 1, row[i]);
+        }
+    }
+}
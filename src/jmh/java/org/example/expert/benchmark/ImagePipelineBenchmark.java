@@ -0,0 +1,70 @@
+package org.example.expert.benchmark;
+
+import org.example.expert.domain.image.ImageProcessor;
+import org.example.expert.domain.image.ImageVariant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이미지 한 장을 디코딩하여 썸네일, 중간 크기 변환본을 만드는 처리량.
+ * 처리 스레드를 1개로 고정하므로 결과(ops/s)가 코어당 초당 처리 이미지 수에 해당한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ImagePipelineBenchmark {
+
+    @Param({"1920x1080", "4000x3000"})
+    private String resolution;
+
+    private ImageProcessor imageProcessor;
+    private byte[] original;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        imageProcessor = new ImageProcessor(200, 800, 0.8f, 50_000_000L, 1, 100);
+
+        String[] size = resolution.split("x");
+        int width = Integer.parseInt(size[0]);
+        int height = Integer.parseInt(size[1]);
+
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setPaint(new GradientPaint(0, 0, Color.ORANGE, width, height, Color.BLUE));
+        graphics.fillRect(0, 0, width, height);
+        graphics.dispose();
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", outputStream);
+        original = outputStream.toByteArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        imageProcessor.shutdown();
+    }
+
+    @Benchmark
+    public Map<ImageVariant, byte[]> process() throws IOException {
+        return imageProcessor.process(new ByteArrayInputStream(original));
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.expert.benchmark;
+
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TodoRepositoryBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private TodoRepository todoRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        todoRepository = context.getBean(TodoRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<TodoResponse> findTodosByWeatherAndModifiedAtWithPages_firstPage() {
+        return todoRepository.findTodosByWeatherAndModifiedAtWithPages("Sunny", null, null, PageRequest.of(0, 10));
+    }
+
+    @Benchmark
+    public Page<TodoResponse> findTodosByWeatherAndModifiedAtWithPages_deepPage() {
+        return todoRepository.findTodosByWeatherAndModifiedAtWithPages("Sunny", null, null, PageRequest.of(1_000, 10));
+    }
+
+    @Benchmark
+    public CursorResponse<TodoResponse> findTodosByWeatherAndModifiedAtWithCursor() {
+        return todoRepository.findTodosByWeatherAndModifiedAtWithCursor("Sunny", null, null, null, 10);
+    }
+
+    @Benchmark
+    public Page<TodoSearchResponse> searchTodosByTitleAndCreatedAtAndManagers() {
+        return todoRepository.searchTodosByTitleAndCreatedAtAndManagers(
+                "title 1", null, null, "nick1", PageRequest.of(0, 10)
+        );
+    }
+
+    @Benchmark
+    public Optional<Todo> findTodoByIdWithUser() {
+        long todoId = 1 + ThreadLocalRandom.current().nextInt(BenchmarkApplication.TODO_COUNT);
+        return todoRepository.findTodoByIdWithUser(todoId);
+    }
+}
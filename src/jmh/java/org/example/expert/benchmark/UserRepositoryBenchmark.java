@@ -0,0 +1,72 @@
+package org.example.expert.benchmark;
+
+import org.example.expert.domain.user.dto.response.UserAutocompleteResponse;
+import org.example.expert.domain.user.dto.response.UserSearchResponse;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UserRepositoryBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private UserService userService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        userRepository = context.getBean(UserRepository.class);
+        userService = context.getBean(UserService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public UserSearchResponse findNicknameByNickname_hit() {
+        int userId = 1 + ThreadLocalRandom.current().nextInt(BenchmarkApplication.USER_COUNT);
+        return userRepository.findNicknameByNickname(BenchmarkApplication.nickname(userId));
+    }
+
+    @Benchmark
+    public UserSearchResponse findNicknameByNickname_miss() {
+        return userRepository.findNicknameByNickname("unknown" + ThreadLocalRandom.current().nextInt());
+    }
+
+    // 닉네임 색인(Bloom filter)을 거치는 경로, miss 는 DB 를 조회하지 않음
+    @Benchmark
+    public UserSearchResponse searchUser_hit() {
+        int userId = 1 + ThreadLocalRandom.current().nextInt(BenchmarkApplication.USER_COUNT);
+        return userService.searchUser(BenchmarkApplication.nickname(userId));
+    }
+
+    @Benchmark
+    public UserSearchResponse searchUser_miss() {
+        return userService.searchUser("unknown" + ThreadLocalRandom.current().nextInt());
+    }
+
+    @Benchmark
+    public UserAutocompleteResponse autocomplete() {
+        // "nick1", "nick12" 처럼 길이가 다른 접두사로 후보 수를 다양하게 함
+        String userId = String.valueOf(1 + ThreadLocalRandom.current().nextInt(BenchmarkApplication.USER_COUNT));
+        String prefix = "nick" + userId.substring(0, 1 + ThreadLocalRandom.current().nextInt(userId.length()));
+        return userService.autocomplete(prefix, 10);
+    }
+}
@@ -0,0 +1,190 @@
+package org.example.expert.benchmark;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.user.enums.UserRole;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 플랫폼 스레드 모드와 가상 스레드 모드의 처리량 비교 부하 테스트 (./gradlew loadTest -PjavaVersion=21).
+ * 모드별로 애플리케이션을 기동하고, 동시 요청 수(기본 5,000)를 유지하며 DB 를 조회하는 GET /todos 를 호출한다.
+ * S3 호환 저장소 주소를 넘기면 이미지 업로드(POST /upload) 부하도 실행하여 S3 클라이언트 경로의 carrier 고정 여부를
+ * jdk.tracePinnedThreads 출력으로 확인한다.
+ */
+public class VirtualThreadLoadTest {
+
+    private static final String BOUNDARY = "load-test-boundary";
+    // 이미지 처리 풀(대기열 포함)을 넘지 않도록 업로드 동시 요청 수 제한
+    private static final int MAX_UPLOAD_CONCURRENCY = 50;
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = args.length > 0 ? Integer.parseInt(args[0]) : 5_000;
+        int durationSeconds = args.length > 1 ? Integer.parseInt(args[1]) : 30;
+        String s3Endpoint = args.length > 2 ? args[2] : "";
+
+        if (Runtime.version().feature() < 21) {
+            System.out.println("[WARN] Java 21 미만에서는 spring.threads.virtual.enabled 가 무시되어 두 모드가 동일하게 동작합니다.");
+        }
+
+        List<Result> platform = run("platform", concurrency, durationSeconds, s3Endpoint, "spring.threads.virtual.enabled=false");
+        List<Result> virtual = run("virtual", concurrency, durationSeconds, s3Endpoint, "spring.threads.virtual.enabled=true");
+
+        System.out.println("===================== 부하 테스트 결과 =====================");
+        System.out.printf("동시 요청: %d, 측정 시간: %ds%n", concurrency, durationSeconds);
+        platform.forEach(Result::print);
+        virtual.forEach(Result::print);
+    }
+
+    private static List<Result> run(String mode, int concurrency, int durationSeconds, String s3Endpoint, String threadProperty)
+            throws Exception {
+        ConfigurableApplicationContext context = BenchmarkApplication.start(
+                threadProperty,
+                "server.tomcat.max-connections=" + (concurrency * 2),
+                "server.tomcat.accept-count=" + concurrency,
+                "cloud.aws.s3.endpoint=" + s3Endpoint
+        );
+        try {
+            String port = context.getEnvironment().getProperty("local.server.port");
+            String token = context.getBean(JwtUtil.class).createToken(1L, "user1@example.com", UserRole.ROLE_USER, "nick1");
+
+            HttpClient client = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            Supplier<HttpRequest> todos = () -> HttpRequest.newBuilder()
+                    .uri(URI.create("http://localhost:" + port + "/todos?page=" + (1 + ThreadLocalRandom.current().nextInt(1_000)) + "&size=10"))
+                    .header("Authorization", token)
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+
+            List<Result> results = new ArrayList<>();
+            // 워밍업
+            fire(client, todos, Math.min(concurrency, 200), 5);
+            results.add(fire(client, todos, concurrency, durationSeconds).withMode(mode));
+
+            if (!s3Endpoint.isEmpty()) {
+                AmazonS3Client amazonS3Client = context.getBean(AmazonS3Client.class);
+                String bucket = context.getEnvironment().getProperty("cloud.aws.s3.bucketName");
+                if (!amazonS3Client.doesBucketExistV2(bucket)) {
+                    amazonS3Client.createBucket(bucket);
+                }
+                byte[] image = jpeg();
+                Supplier<HttpRequest> uploads = () -> HttpRequest.newBuilder()
+                        .uri(URI.create("http://localhost:" + port + "/upload"))
+                        .header("Authorization", token)
+                        .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                        .timeout(Duration.ofSeconds(30))
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(multipart(image)))
+                        .build();
+                results.add(fire(client, uploads, Math.min(concurrency, MAX_UPLOAD_CONCURRENCY), durationSeconds)
+                        .withMode(mode + "-s3-upload"));
+            }
+            return results;
+        } finally {
+            context.close();
+        }
+    }
+
+    private static byte[] jpeg() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(400, 300, BufferedImage.TYPE_INT_RGB), "jpeg", outputStream);
+        return outputStream.toByteArray();
+    }
+
+    // 같은 내용은 해시 중복 제거로 S3 업로드를 건너뛰므로, JPEG 끝(EOI) 뒤에 임의 바이트를 붙여 요청마다 다른 파일로 만듦
+    private static byte[] multipart(byte[] image) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.writeBytes(("--" + BOUNDARY + "\r\n" +
+                "Content-Disposition: form-data; name=\"imgFile\"; filename=\"load.jpg\"\r\n" +
+                "Content-Type: image/jpeg\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(image);
+        body.writeBytes(Long.toString(ThreadLocalRandom.current().nextLong()).getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return body.toByteArray();
+    }
+
+    private static Result fire(HttpClient client, Supplier<HttpRequest> requests, int concurrency, int durationSeconds)
+            throws InterruptedException {
+        Semaphore inFlight = new Semaphore(concurrency);
+        AtomicLong success = new AtomicLong();
+        AtomicLong failure = new AtomicLong();
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+
+        long endAt = System.nanoTime() + Duration.ofSeconds(durationSeconds).toNanos();
+        while (System.nanoTime() < endAt) {
+            inFlight.acquire();
+            HttpRequest request = requests.get();
+
+            long startedAt = System.nanoTime();
+            CompletableFuture<HttpResponse<Void>> future = client.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+            future.whenComplete((response, throwable) -> {
+                if (throwable == null && response.statusCode() == 200) {
+                    success.incrementAndGet();
+                    latencies.add(System.nanoTime() - startedAt);
+                } else {
+                    failure.incrementAndGet();
+                }
+                inFlight.release();
+            });
+        }
+        // 남은 요청 완료 대기
+        inFlight.acquire(concurrency);
+
+        return new Result(success.get(), failure.get(), new ArrayList<>(latencies), durationSeconds);
+    }
+
+    private static class Result {
+
+        private String mode;
+        private final long success;
+        private final long failure;
+        private final List<Long> latencies;
+        private final int durationSeconds;
+
+        private Result(long success, long failure, List<Long> latencies, int durationSeconds) {
+            this.success = success;
+            this.failure = failure;
+            this.latencies = latencies;
+            this.durationSeconds = durationSeconds;
+        }
+
+        private Result withMode(String mode) {
+            this.mode = mode;
+            return this;
+        }
+
+        private void print() {
+            Collections.sort(latencies);
+            System.out.printf("=== [%s] 처리량: %.1f req/s, 성공: %d, 실패: %d, p50: %.2fms, p99: %.2fms%n",
+                    mode, (double) success / durationSeconds, success, failure, percentile(0.50), percentile(0.99));
+        }
+
+        private double percentile(double percentile) {
+            if (latencies.isEmpty()) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * latencies.size()) - 1;
+            return latencies.get(Math.max(index, 0)) / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package org.example.expert.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.MonthDay;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 날씨 API 결과를 날짜별 Map 으로 보관하는 캐시.
+ * 갱신은 스케줄러가 TTL 만료 시, 그리고 자정 전에 백그라운드로 수행하며, 요청 스레드는 만료된 값이라도 오늘 날씨가 있으면 바로 사용한다.
+ * 요청 스레드가 외부 API 를 호출하는 경우는 오늘 날씨가 아예 없을 때(기동 직후 등)뿐이며, 동시 요청은 한 번의 조회를 함께 기다린다.
+ * 갱신에 실패하면 지수 backoff 동안 외부 API 를 다시 호출하지 않는다.
+ */
+@Slf4j
+@Component
+public class WeatherCache {
+
+    private final WeatherClient weatherClient;
+    private final long ttlMillis;
+    private final long minBackoffMillis;
+    private final long maxBackoffMillis;
+    private final long loadWaitMillis;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter refreshSuccessCounter;
+    private final Counter refreshFailureCounter;
+
+    private volatile Map<MonthDay, String> forecast = Map.of();
+    private volatile long loadedAt;
+
+    // 외부 API 호출은 한 번에 하나만 (synchronized 는 가상 스레드에서 HTTP 대기 중 carrier 스레드를 고정하므로 사용하지 않음)
+    private final ReentrantLock loadLock = new ReentrantLock();
+    // loadLock 안에서만 접근
+    private long failureBackoffMillis;
+    private long nextAttemptAt;
+
+    public WeatherCache(
+            WeatherClient weatherClient,
+            MeterRegistry meterRegistry,
+            @Value("${weather.cache.ttl-minutes:360}") long ttlMinutes,
+            @Value("${weather.cache.failure-backoff-min-ms:5000}") long minBackoffMillis,
+            @Value("${weather.cache.failure-backoff-max-ms:300000}") long maxBackoffMillis,
+            @Value("${weather.cache.load-wait-ms:3000}") long loadWaitMillis
+    ) {
+        this.weatherClient = weatherClient;
+        this.ttlMillis = ttlMinutes * 60 * 1000L;
+        this.minBackoffMillis = minBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.loadWaitMillis = loadWaitMillis;
+        this.hitCounter = meterRegistry.counter("weather.cache.requests", "result", "hit");
+        this.missCounter = meterRegistry.counter("weather.cache.requests", "result", "miss");
+        this.refreshSuccessCounter = meterRegistry.counter("weather.cache.refresh", "result", "success");
+        this.refreshFailureCounter = meterRegistry.counter("weather.cache.refresh", "result", "failure");
+    }
+
+    public String getTodayWeather() {
+        MonthDay today = MonthDay.now();
+
+        // TTL 이 지났더라도 백그라운드 갱신 전까지는 기존 값 사용
+        String weather = forecast.get(today);
+        if (weather != null) {
+            hitCounter.increment();
+            return weather;
+        }
+
+        missCounter.increment();
+        return loadTodayWeather(today);
+    }
+
+    // 기동 직후 첫 적재와 TTL 만료 후 갱신
+    @Scheduled(fixedDelayString = "${weather.cache.refresh-check-ms:60000}")
+    public void refreshIfExpired() {
+        if (forecast.containsKey(MonthDay.now()) && !isExpired()) {
+            return;
+        }
+        refresh();
+    }
+
+    // 자정 전에 미리 갱신하여 날짜가 바뀐 직후의 요청이 외부 API 를 기다리지 않도록 함
+    @Scheduled(cron = "${weather.cache.refresh-cron:0 50 23 * * *}")
+    public void refresh() {
+        // 이미 다른 스레드가 조회 중이면 그 결과를 사용
+        if (!loadLock.tryLock()) {
+            return;
+        }
+        try {
+            reload();
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private String loadTodayWeather(MonthDay today) {
+        try {
+            if (!loadLock.tryLock(loadWaitMillis, TimeUnit.MILLISECONDS)) {
+                throw new ServerException("날씨 데이터를 가져오는데 실패했습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다.");
+        }
+
+        try {
+            // 대기 중 다른 스레드가 이미 갱신한 경우 재조회하지 않음
+            String weather = forecast.get(today);
+            if (weather != null) {
+                return weather;
+            }
+            if (!reload()) {
+                throw new ServerException("날씨 데이터를 가져오는데 실패했습니다.");
+            }
+
+            weather = forecast.get(today);
+            if (weather == null) {
+                throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+            }
+            return weather;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    // loadLock 을 잡은 상태에서 호출. backoff 기간이면 호출하지 않고 false 반환
+    private boolean reload() {
+        long now = System.currentTimeMillis();
+        if (now < nextAttemptAt) {
+            return false;
+        }
+
+        try {
+            forecast = Map.copyOf(weatherClient.getWeatherForecast());
+            loadedAt = System.currentTimeMillis();
+            failureBackoffMillis = 0;
+            nextAttemptAt = 0;
+            refreshSuccessCounter.increment();
+            return true;
+        } catch (RuntimeException e) {
+            refreshFailureCounter.increment();
+            failureBackoffMillis = failureBackoffMillis == 0
+                    ? minBackoffMillis
+                    : Math.min(failureBackoffMillis * 2, maxBackoffMillis);
+            nextAttemptAt = System.currentTimeMillis() + failureBackoffMillis;
+            log.warn("날씨 데이터 갱신에 실패했습니다. 기존 데이터를 유지하고 {}ms 후 다시 시도합니다.", failureBackoffMillis, e);
+            return false;
+        }
+    }
+
+    private boolean isExpired() {
+        return System.currentTimeMillis() - loadedAt > ttlMillis;
+    }
+}
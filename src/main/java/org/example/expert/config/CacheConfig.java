@@ -0,0 +1,30 @@
+package org.example.expert.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class CacheConfig {
+
+    // 공유 캐시(2차) 로컬 대체 구현. 운영에서는 Redis 등 외부 CacheManager 로 교체
+    // 외부 캐시와 같이 크기, TTL 로 제한하여 무한히 커지지 않도록 함
+    @Bean
+    @ConditionalOnProperty(name = "cache.shared.type", havingValue = "local")
+    public CacheManager sharedCacheManager(
+            @Value("${cache.shared.local.max-size:100000}") long maxSize,
+            @Value("${cache.shared.local.ttl-seconds:300}") long ttlSeconds
+    ) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds)));
+        return cacheManager;
+    }
+}
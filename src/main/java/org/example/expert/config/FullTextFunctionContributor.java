@@ -0,0 +1,31 @@
+package org.example.expert.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * QueryDSL 에서 function('match_against', 컬럼, 검색어) 로 사용할 전문 검색 함수 등록.
+ * MySQL 은 ngram parser FULLTEXT 인덱스를 사용하는 MATCH ... AGAINST 로,
+ * 그 외(H2 등)는 같은 결과를 내는 문자열 포함 검사로 변환된다.
+ */
+public class FullTextFunctionContributor implements FunctionContributor {
+
+    public static final String MATCH_AGAINST = "match_against";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Double> doubleType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.DOUBLE);
+
+        // 검색어는 boolean mode 구문 검색을 위해 큰따옴표로 감싸서 전달되므로 fallback 에서는 따옴표 제거
+        String pattern = functionContributions.getDialect() instanceof MySQLDialect
+                ? "match(?1) against (?2 in boolean mode)"
+                : "case when locate(replace(?2, '\"', ''), ?1) > 0 then 1.0 else 0.0 end";
+
+        functionContributions.getFunctionRegistry().registerPattern(MATCH_AGAINST, pattern, doubleType);
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.expert.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * JPA 의 @Index 로는 FULLTEXT 인덱스를 만들 수 없으므로 MySQL 에서만 기동 시 ngram FULLTEXT 인덱스를 생성한다.
+ * (todos.title, users.nickname 의 '%keyword%' 검색용)
+ * 웹 서버가 요청을 받기 전에 실행하며, 여러 인스턴스가 동시에 기동해도 GET_LOCK 으로 한 인스턴스만 생성한다.
+ * 인덱스는 stopword 없이 만들어, 기존 LIKE 검색에서 찾히던 단어가 stopword 라는 이유로 빠지지 않도록 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FullTextIndexInitializer implements SmartInitializingSingleton {
+
+    private static final String LOCK_NAME = "expert.fulltext-index";
+    private static final int LOCK_TIMEOUT_SECONDS = 600;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        String productName;
+        try {
+            productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException(e);
+        }
+        if (!"MySQL".equalsIgnoreCase(productName)) {
+            return;
+        }
+
+        MySqlNamedLock.execute(jdbcTemplate, LOCK_NAME, LOCK_TIMEOUT_SECONDS, locked -> {
+            createIfAbsent(locked, "todos", "ft_todos_title", "title");
+            createIfAbsent(locked, "users", "ft_users_nickname", "nickname");
+            return null;
+        });
+    }
+
+    // 잠금을 잡은 뒤 다시 확인하므로 먼저 생성한 인스턴스가 있으면 건너뜀
+    private void createIfAbsent(JdbcTemplate locked, String table, String indexName, String column) {
+        Integer exists = locked.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics " +
+                        "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?",
+                Integer.class, table, indexName
+        );
+        if (exists != null && exists > 0) {
+            return;
+        }
+
+        // stopword 설정은 인덱스 생성 시점의 세션 값이 인덱스에 고정됨 (풀에 반환되는 커넥션이므로 생성 후 원복)
+        locked.execute("SET SESSION innodb_ft_enable_stopword = OFF");
+        try {
+            locked.execute(
+                    "ALTER TABLE " + table + " ADD FULLTEXT INDEX " + indexName + " (" + column + ") WITH PARSER ngram"
+            );
+        } finally {
+            locked.execute("SET SESSION innodb_ft_enable_stopword = DEFAULT");
+        }
+        log.info("FULLTEXT index created - table: {}, index: {}", table, indexName);
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.entity.IdGenerators;
+import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * JDBC 로 직접 INSERT 하는 경로에서 id_generators 의 id 구간을 한 번에 할당받는다.
+ * Hibernate pooled-lo 와 같은 규칙(next_val 부터 size 개 사용 후 next_val += size)을 따르므로 JPA 저장과 id 가 겹치지 않는다.
+ * 행 잠금을 오래 잡지 않도록 호출 측 트랜잭션과 별도 트랜잭션으로 즉시 커밋한다.
+ * 트랜잭션 안에서 호출하면 커넥션을 두 개 잡게 되므로, 가능하면 트랜잭션을 열기 전에 호출한다.
+ */
+@Component
+public class IdBlockAllocator {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public IdBlockAllocator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // table 의 id 를 size 개 할당하고 첫 번째 id 반환 ([first, first + size) 사용)
+    public long allocate(String table, int size) {
+        Long first = transactionTemplate.execute(status -> {
+            Long next = jdbcTemplate.queryForObject(
+                    "SELECT " + IdGenerators.VALUE_COLUMN + " FROM " + IdGenerators.TABLE +
+                            " WHERE " + IdGenerators.PK_COLUMN + " = ? FOR UPDATE",
+                    Long.class, table
+            );
+            if (next == null) {
+                throw new ServerException("id 생성기가 초기화되지 않았습니다. table: " + table);
+            }
+            jdbcTemplate.update(
+                    "UPDATE " + IdGenerators.TABLE + " SET " + IdGenerators.VALUE_COLUMN + " = ? WHERE " + IdGenerators.PK_COLUMN + " = ?",
+                    next + size, table
+            );
+            return next;
+        });
+        return first;
+    }
+}
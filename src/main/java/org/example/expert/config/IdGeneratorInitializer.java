@@ -0,0 +1,71 @@
+package org.example.expert.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.entity.IdGenerators;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * IDENTITY 에서 테이블 기반 id 생성기로 전환하기 위한 초기화.
+ * 웹 서버가 요청을 받기 전에 id_generators 의 다음 값을 각 테이블의 MAX(id) + 1 이상으로 맞추어
+ * 기존 데이터와 id 가 겹치지 않도록 한다. 값은 올리기만 하므로 새 버전 인스턴스끼리는 동시에 기동해도 안전하다.
+ * 단, IDENTITY 를 쓰는 이전 버전과 함께 실행되면 안 된다. 새 생성기가 넣은 id 때문에 auto_increment 값이 뛰어
+ * 이전 버전이 새 생성기가 미리 할당한 구간의 id 를 받게 되므로 양쪽 모두 중복 키 오류가 난다.
+ * 따라서 이 전환이 포함된 배포는 롤링 배포가 아니라 이전 버전 인스턴스를 모두 내린 뒤 새 버전을 올린다.
+ * JDBC 로 id 를 직접 넣는 경로(대량 데이터 생성 등)도 완료 후 synchronize() 를 호출한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdGeneratorInitializer implements SmartInitializingSingleton {
+
+    private static final List<String> TABLES = List.of("users", "todos", "comments", "managers");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        jdbcTemplate.execute(
+                "CREATE TABLE IF NOT EXISTS " + IdGenerators.TABLE + " (" +
+                        IdGenerators.PK_COLUMN + " VARCHAR(255) NOT NULL, " +
+                        IdGenerators.VALUE_COLUMN + " BIGINT, " +
+                        "PRIMARY KEY (" + IdGenerators.PK_COLUMN + "))"
+        );
+        synchronize();
+    }
+
+    public void synchronize() {
+        for (String table : TABLES) {
+            Long nextId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table, Long.class);
+            if (raise(table, nextId) == 0) {
+                insert(table, nextId);
+            }
+        }
+    }
+
+    private int raise(String table, Long nextId) {
+        return jdbcTemplate.update(
+                "UPDATE " + IdGenerators.TABLE + " SET " + IdGenerators.VALUE_COLUMN + " = ? " +
+                        "WHERE " + IdGenerators.PK_COLUMN + " = ? AND (" + IdGenerators.VALUE_COLUMN + " IS NULL OR " + IdGenerators.VALUE_COLUMN + " < ?)",
+                nextId, table, nextId
+        );
+    }
+
+    // 행이 없거나 이미 충분히 큰 경우 (충분히 큰 경우 insert 는 중복 키로 실패하므로 무시)
+    private void insert(String table, Long nextId) {
+        try {
+            jdbcTemplate.update(
+                    "INSERT INTO " + IdGenerators.TABLE + " (" + IdGenerators.PK_COLUMN + ", " + IdGenerators.VALUE_COLUMN + ") VALUES (?, ?)",
+                    table, nextId
+            );
+            log.info("Id generator initialized - table: {}, next id: {}", table, nextId);
+        } catch (DuplicateKeyException e) {
+            raise(table, nextId);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.expert.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * 검증이 끝난 JWT 의 인증 정보 캐시.
+ * 같은 토큰이 반복해서 들어오면 Base64 디코딩, JSON 파싱, HMAC 검증 없이 해시 조회만으로 인증한다.
+ * 키는 토큰 원문 대신 SHA-256 digest 를 사용하고, 정상 토큰은 만료 시각에, 잘못된 토큰은 짧은 TTL 후에 제거된다.
+ */
+@Component
+public class JwtAuthenticationCache {
+
+    private final JwtUtil jwtUtil;
+    private final Cache<String, CachedAuthentication> cache;
+
+    public JwtAuthenticationCache(
+            JwtUtil jwtUtil,
+            @Value("${jwt.cache.max-size:100000}") long maxSize,
+            @Value("${jwt.cache.negative-ttl-seconds:60}") long negativeTtlSeconds
+    ) {
+        this.jwtUtil = jwtUtil;
+        long negativeTtlNanos = Duration.ofSeconds(negativeTtlSeconds).toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, CachedAuthentication>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedAuthentication value, long currentTime) {
+                        if (value.exception != null) {
+                            return negativeTtlNanos;
+                        }
+                        long remainingMillis = value.expiresAtMillis - System.currentTimeMillis();
+                        return Duration.ofMillis(Math.max(remainingMillis, 0)).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    // 잘못된 토큰이면 최초 검증 시 발생한 JwtException 을 그대로 다시 던짐
+    public AuthUser authenticate(String token) {
+        CachedAuthentication cached = cache.get(digest(token), key -> verify(token));
+        if (cached.exception != null) {
+            throw cached.exception;
+        }
+        return cached.authUser;
+    }
+
+    private CachedAuthentication verify(String token) {
+        try {
+            Claims claims = jwtUtil.extractClaims(token);
+
+            Long userId = Long.valueOf(claims.getSubject());
+            String email = claims.get("email", String.class);
+            UserRole userRole = UserRole.of(claims.get("userRole", String.class));
+
+            return new CachedAuthentication(new AuthUser(userId, email, userRole), null, claims.getExpiration().getTime());
+        } catch (JwtException e) {
+            return new CachedAuthentication(null, e, 0L);
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class CachedAuthentication {
+
+        private final AuthUser authUser;
+        private final JwtException exception;
+        private final long expiresAtMillis;
+
+        private CachedAuthentication(AuthUser authUser, JwtException exception, long expiresAtMillis) {
+            this.authUser = authUser;
+            this.exception = exception;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
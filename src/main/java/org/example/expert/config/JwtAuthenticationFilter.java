@@ -1,6 +1,5 @@
 package org.example.expert.config;
 
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -12,7 +11,6 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.expert.domain.common.dto.AuthUser;
-import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -25,6 +23,7 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
 
     @Override
     protected void doFilterInternal(
@@ -37,10 +36,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
             String jwt = jwtUtil.substringToken(authorizationHeader);
             try {
-                Claims claims = jwtUtil.extractClaims(jwt);
+                // 검증된 토큰은 캐시에서 바로 인증 정보 조회
+                AuthUser authUser = jwtAuthenticationCache.authenticate(jwt);
 
                 if (SecurityContextHolder.getContext().getAuthentication() == null) {
-                    setAuthentication(claims);
+                    setAuthentication(authUser);
                 }
             } catch (SecurityException | MalformedJwtException e) {
                 log.error("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.", e);
@@ -58,12 +58,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         chain.doFilter(httpRequest, httpResponse);
     }
-    private void setAuthentication(Claims claims) {
-        Long userId = Long.valueOf(claims.getSubject());
-        String email = claims.get("email", String.class);
-        UserRole userRole = UserRole.of(claims.get("userRole", String.class));
-
-        AuthUser authUser = new AuthUser(userId, email, userRole);
+    private void setAuthentication(AuthUser authUser) {
         JwtAuthenticationToken authenticationToken = new JwtAuthenticationToken(authUser);
         SecurityContextHolder.getContext().setAuthentication(authenticationToken);
     }
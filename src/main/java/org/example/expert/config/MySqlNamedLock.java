@@ -0,0 +1,52 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * MySQL 이름 기반 잠금(GET_LOCK) 으로 여러 인스턴스가 동시에 기동할 때 스키마 변경 작업이 한 번에 하나만 실행되도록 한다.
+ * GET_LOCK 은 커넥션 단위로 유지되므로 잠금 획득부터 해제까지 같은 커넥션을 사용하는 JdbcTemplate 을 넘겨준다.
+ */
+public final class MySqlNamedLock {
+
+    private MySqlNamedLock() {
+    }
+
+    public static <T> T execute(JdbcTemplate jdbcTemplate, String lockName, int timeoutSeconds, Function<JdbcTemplate, T> action) {
+        return jdbcTemplate.execute((ConnectionCallback<T>) connection -> {
+            JdbcTemplate locked = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            Integer acquired = locked.queryForObject("SELECT GET_LOCK(?, ?)", Integer.class, lockName, timeoutSeconds);
+            if (acquired == null || acquired != 1) {
+                throw new ServerException("스키마 변경 잠금을 획득하지 못했습니다. 잠금: " + lockName);
+            }
+            try {
+                return action.apply(locked);
+            } finally {
+                locked.queryForObject("SELECT RELEASE_LOCK(?)", Integer.class, lockName);
+            }
+        });
+    }
+
+    // 다른 인스턴스가 잠금을 잡고 있으면 기다리지 않고 건너뜀 (실행했으면 true)
+    public static boolean tryExecute(JdbcTemplate jdbcTemplate, String lockName, Consumer<JdbcTemplate> action) {
+        Boolean executed = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            JdbcTemplate locked = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            Integer acquired = locked.queryForObject("SELECT GET_LOCK(?, 0)", Integer.class, lockName);
+            if (acquired == null || acquired != 1) {
+                return false;
+            }
+            try {
+                action.accept(locked);
+                return true;
+            } finally {
+                locked.queryForObject("SELECT RELEASE_LOCK(?)", Integer.class, lockName);
+            }
+        });
+        return Boolean.TRUE.equals(executed);
+    }
+}
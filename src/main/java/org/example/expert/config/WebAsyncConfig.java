@@ -0,0 +1,22 @@
+package org.example.expert.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebAsyncConfig implements WebMvcConfigurer {
+
+    private final long requestTimeoutMs;
+
+    public WebAsyncConfig(@Value("${web.async.request-timeout-ms:3600000}") long requestTimeoutMs) {
+        this.requestTimeoutMs = requestTimeoutMs;
+    }
+
+    // 일정 내보내기 같은 긴 스트리밍 응답이 컨테이너 기본 async timeout(Tomcat 30초)에 끊기지 않도록 설정
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(requestTimeoutMs);
+    }
+}
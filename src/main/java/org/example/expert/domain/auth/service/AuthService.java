@@ -1,6 +1,7 @@
 package org.example.expert.domain.auth.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.config.PasswordEncoder;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
@@ -9,12 +10,17 @@ import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.NicknameAutocompleteIndex;
+import org.example.expert.domain.user.service.UserNicknameIndex;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -23,8 +29,11 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final UserNicknameIndex userNicknameIndex;
+    private final NicknameAutocompleteIndex nicknameAutocompleteIndex;
 
-    @Transactional
+    // BCrypt 대기, 연산 동안 커넥션을 잡지 않도록 트랜잭션 없이 실행 (조회, 저장은 각각 짧은 트랜잭션)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SignupResponse signup(SignupRequest signupRequest) {
 
         if (userRepository.existsByEmail(signupRequest.getEmail())) {
@@ -42,6 +51,8 @@ public class AuthService {
                 signupRequest.getNickname()
         );
         User savedUser = userRepository.save(newUser);
+        userNicknameIndex.add(savedUser.getNickname());
+        nicknameAutocompleteIndex.add(savedUser.getNickname());
 
         // JWT 토큰에 nickname 추가
         String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole, savedUser.getNickname());
@@ -49,6 +60,7 @@ public class AuthService {
         return new SignupResponse(bearerToken);
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SigninResponse signin(SigninRequest signinRequest) {
         User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
                 () -> new InvalidRequestException("가입되지 않은 유저입니다."));
@@ -58,6 +70,17 @@ public class AuthService {
             throw new AuthException("잘못된 비밀번호입니다.");
         }
 
+        // 저장된 해시의 cost 가 현재 설정과 다르면 로그인 성공 시점에 재해시
+        // 해시는 트랜잭션 밖에서 계산하고 저장만 짧은 UPDATE 로 수행하며, 재해시에 실패해도 로그인은 성공시킴
+        if (passwordEncoder.needsRehash(user.getPassword())) {
+            try {
+                String rehashed = passwordEncoder.encode(signinRequest.getPassword());
+                userRepository.updatePasswordIfUnchanged(user.getId(), user.getPassword(), rehashed);
+            } catch (ServiceUnavailableException e) {
+                log.debug("Password rehash skipped - userId: {}", user.getId());
+            }
+        }
+
         // JWT 토큰에 nickname 추가
         String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole(), user.getNickname());
 
@@ -2,15 +2,19 @@ package org.example.expert.domain.comment.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.request.CommentBatchSaveRequest;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.service.CommentService;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.List;
 
@@ -29,8 +33,38 @@ public class CommentController {
         return ResponseEntity.ok(commentService.saveComment(authUser, todoId, commentSaveRequest));
     }
 
+    @PostMapping("/todos/{todoId}/comments/batch")
+    public ResponseEntity<List<CommentSaveResponse>> saveComments(
+            @AuthenticationPrincipal AuthUser authUser,
+            @PathVariable long todoId,
+            @Valid @RequestBody CommentBatchSaveRequest commentBatchSaveRequest
+    ) {
+        return ResponseEntity.ok(commentService.saveComments(authUser, todoId, commentBatchSaveRequest));
+    }
+
+    // 작성 순으로 앞의 최대 100건만 반환하고, 잘린 경우 다음 페이지 주소를 Link 헤더(rel="next")로 알림
     @GetMapping("/todos/{todoId}/comments")
     public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId) {
-        return ResponseEntity.ok(commentService.getComments(todoId));
+        CursorResponse<CommentResponse> comments = commentService.getComments(todoId);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (comments.isHasNext()) {
+            String next = UriComponentsBuilder.fromPath("/todos/{todoId}/comments")
+                    .queryParam("cursor", comments.getNextCursor())
+                    .queryParam("size", comments.getContent().size())
+                    .buildAndExpand(todoId)
+                    .toUriString();
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response.body(comments.getContent());
+    }
+
+    // cursor 파라미터가 있으면 키셋 페이지네이션 (첫 페이지는 빈 값으로 요청)
+    @GetMapping(value = "/todos/{todoId}/comments", params = "cursor")
+    public ResponseEntity<CursorResponse<CommentResponse>> getCommentsByCursor(
+            @PathVariable long todoId,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(commentService.getCommentsByCursor(todoId, cursor, size));
     }
 }
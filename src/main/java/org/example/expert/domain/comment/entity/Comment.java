@@ -3,6 +3,7 @@ package org.example.expert.domain.comment.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.example.expert.domain.common.entity.IdGenerators;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.user.entity.User;
@@ -10,10 +11,23 @@ import org.example.expert.domain.user.entity.User;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "comments")
+// 일정별 댓글 목록(작성 시각 순 키셋 페이지네이션) 조회용, 일정 내보내기(todo_id, id 순) 조회용 복합 인덱스
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_todo_id_created_at_id", columnList = "todo_id, created_at, id"),
+        @Index(name = "idx_comments_todo_id_id", columnList = "todo_id, id")
+})
 public class Comment extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "comment_id")
+    @TableGenerator(
+            name = "comment_id",
+            table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "comments",
+            allocationSize = IdGenerators.ALLOCATION_SIZE
+    )
     private Long id;
     private String contents;
 
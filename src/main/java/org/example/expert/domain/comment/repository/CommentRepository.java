@@ -2,14 +2,6 @@ package org.example.expert.domain.comment.repository;
 
 import org.example.expert.domain.comment.entity.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 
-import java.util.List;
-
-public interface CommentRepository extends JpaRepository<Comment, Long> {
-
-    // user 도 한꺼번에 로드하기 위해 JPQL 에 join fetch 적용
-    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
-    List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentRepositoryQuery {
 }
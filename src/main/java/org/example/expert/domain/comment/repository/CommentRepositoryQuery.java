@@ -0,0 +1,10 @@
+package org.example.expert.domain.comment.repository;
+
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.common.dto.CursorResponse;
+
+public interface CommentRepositoryQuery {
+
+    CursorResponse<CommentResponse> findCommentsByTodoIdWithCursor(Long todoId, Cursor cursor, int size);
+}
@@ -0,0 +1,66 @@
+package org.example.expert.domain.comment.repository;
+
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+
+import java.util.List;
+
+import static org.example.expert.domain.comment.entity.QComment.comment;
+import static org.example.expert.domain.user.entity.QUser.user;
+
+@RequiredArgsConstructor
+public class CommentRepositoryQueryImpl implements CommentRepositoryQuery {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    // 엔티티 대신 DTO 로 바로 조회하여 영속성 컨텍스트에 Comment, User 를 적재하지 않음
+    private static ConstructorExpression<CommentResponse> commentResponse() {
+        return Projections.constructor(
+                CommentResponse.class,
+                comment.id,
+                comment.contents,
+                Projections.constructor(UserResponse.class, user.id, user.email),
+                comment.createdAt
+        );
+    }
+
+    @Override
+    public CursorResponse<CommentResponse> findCommentsByTodoIdWithCursor(Long todoId, Cursor cursor, int size) {
+        // (todo_id, created_at, id) 인덱스를 따라 cursor 다음 행부터 size + 1 건만 읽음 (다음 페이지 존재 여부 확인용 1건 포함)
+        List<CommentResponse> result = jpaQueryFactory
+                .select(commentResponse())
+                .from(comment)
+                .join(comment.user, user)
+                .where(
+                        comment.todo.id.eq(todoId),
+                        cursor != null ? createdAtAfter(cursor) : null
+                )
+                .orderBy(comment.createdAt.asc(), comment.id.asc())
+                .limit(size + 1)
+                .fetch();
+
+        boolean hasNext = result.size() > size;
+        List<CommentResponse> content = hasNext ? result.subList(0, size) : result;
+        String nextCursor = null;
+        if (hasNext) {
+            // id 는 인스턴스별로 블록 단위 할당되어 작성 순서와 다를 수 있으므로 작성 시각과 함께 담음
+            CommentResponse last = content.get(content.size() - 1);
+            nextCursor = new Cursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return new CursorResponse<>(content, nextCursor, hasNext);
+    }
+
+    // (createdAt, id) > (cursor.time, cursor.id)
+    private BooleanExpression createdAtAfter(Cursor cursor) {
+        return comment.createdAt.gt(cursor.getTime())
+                .or(comment.createdAt.eq(cursor.getTime()).and(comment.id.gt(cursor.getId())));
+    }
+}
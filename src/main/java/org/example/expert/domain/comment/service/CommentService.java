@@ -1,12 +1,15 @@
 package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.request.CommentBatchSaveRequest;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
@@ -23,6 +26,10 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class CommentService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    // 페이지 없는 목록 조회도 댓글 수와 무관하게 응답 크기를 제한 (남은 댓글은 다음 커서로 이어서 조회)
+    private static final int MAX_UNPAGED_SIZE = 100;
+
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
 
@@ -39,6 +46,7 @@ public class CommentService {
         );
 
         Comment savedComment = commentRepository.save(newComment);
+        todoRepository.addCommentCount(todoId, 1);
 
         return new CommentSaveResponse(
                 savedComment.getId(),
@@ -47,19 +55,47 @@ public class CommentService {
         );
     }
 
-    public List<CommentResponse> getComments(long todoId) {
-        List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
-
-        List<CommentResponse> dtoList = new ArrayList<>();
-        for (Comment comment : commentList) {
-            User user = comment.getUser();
-            CommentResponse dto = new CommentResponse(
-                    comment.getId(),
-                    comment.getContents(),
-                    new UserResponse(user.getId(), user.getEmail())
-            );
-            dtoList.add(dto);
+    // 댓글 일괄 등록: 일정 조회는 한 번만 하고 저장은 JDBC batch, 댓글 수 카운터도 한 번에 증가
+    @Transactional
+    public List<CommentSaveResponse> saveComments(AuthUser authUser, long todoId, CommentBatchSaveRequest commentBatchSaveRequest) {
+        User user = User.fromAuthUser(authUser);
+        Todo todo = todoRepository.findById(todoId).orElseThrow(() ->
+                new InvalidRequestException("Todo not found"));
+
+        List<Comment> newComments = new ArrayList<>(commentBatchSaveRequest.getComments().size());
+        for (CommentSaveRequest commentSaveRequest : commentBatchSaveRequest.getComments()) {
+            newComments.add(new Comment(commentSaveRequest.getContents(), user, todo));
+        }
+
+        List<Comment> savedComments = commentRepository.saveAll(newComments);
+        todoRepository.addCommentCount(todoId, savedComments.size());
+
+        UserResponse userResponse = new UserResponse(user.getId(), user.getEmail());
+        List<CommentSaveResponse> dtoList = new ArrayList<>(savedComments.size());
+        for (Comment comment : savedComments) {
+            dtoList.add(new CommentSaveResponse(comment.getId(), comment.getContents(), userResponse));
         }
         return dtoList;
     }
+
+    // 작성 순 앞의 MAX_UNPAGED_SIZE 개까지 조회하며, 잘린 경우 이어서 조회할 다음 커서를 함께 반환
+    public CursorResponse<CommentResponse> getComments(long todoId) {
+        return commentRepository.findCommentsByTodoIdWithCursor(todoId, null, MAX_UNPAGED_SIZE);
+    }
+
+    public CursorResponse<CommentResponse> getCommentsByCursor(long todoId, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("조회 개수는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        return commentRepository.findCommentsByTodoIdWithCursor(todoId, decodeCursor(cursor), size);
+    }
+
+    // 댓글 커서는 (작성 시각, id) 를 사용하므로 시각이 없는 커서는 거부
+    private static Cursor decodeCursor(String encoded) {
+        Cursor cursor = Cursor.decode(encoded);
+        if (cursor != null && cursor.getTime() == null) {
+            throw new InvalidRequestException("유효하지 않은 커서입니다.");
+        }
+        return cursor;
+    }
 }
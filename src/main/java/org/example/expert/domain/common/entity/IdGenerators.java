@@ -0,0 +1,18 @@
+package org.example.expert.domain.common.entity;
+
+/**
+ * 엔티티 공용 테이블 기반 id 생성기 설정.
+ * IDENTITY 는 INSERT 를 실행해야 id 를 알 수 있어 Hibernate 가 JDBC batch 를 쓰지 못하므로,
+ * id_generators 테이블에서 ALLOCATION_SIZE 개씩 미리 할당받아(pooled-lo) 메모리에서 나누어 준다.
+ * pk 값(sequence_name)은 각 엔티티의 테이블 이름을 사용한다.
+ */
+public final class IdGenerators {
+
+    public static final String TABLE = "id_generators";
+    public static final String PK_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 100;
+
+    private IdGenerators() {
+    }
+}
@@ -1,6 +1,8 @@
 package org.example.expert.domain.image;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -16,6 +18,9 @@ public class ImageController {
     public ResponseEntity<ImageResponse> uploadFile(MultipartFile imgFile) {
         try {
             return ResponseEntity.ok(imageService.saveFile(imgFile));
+        } catch (ServiceUnavailableException | ServerException e) {
+            // 이미지 처리 풀 포화(503), 서버 오류(500)는 GlobalExceptionHandler 에서 응답
+            throw e;
         } catch (Exception e) {
             return ResponseEntity.status(400).build();
         }
@@ -0,0 +1,54 @@
+package org.example.expert.domain.image;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * 업로드 내용 해시 -> 저장된 이미지 URL 색인.
+ * 자주 올라오는 이미지(기본 아바타 등)는 DB 조회 없이 찾도록 앞단에 로컬 캐시를 둔다.
+ * 파일 키가 해시로 정해지므로 같은 내용을 동시에 올려 색인 저장이 충돌해도 결과는 같다.
+ */
+@Component
+public class ImageHashIndex {
+
+    private final ImageObjectRepository imageObjectRepository;
+    private final Cache<String, ImageResponse> cache;
+
+    public ImageHashIndex(
+            ImageObjectRepository imageObjectRepository,
+            @Value("${image.hash-index.cache-size:10000}") long cacheSize
+    ) {
+        this.imageObjectRepository = imageObjectRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .build();
+    }
+
+    public Optional<ImageResponse> find(String hash) {
+        ImageResponse cached = cache.getIfPresent(hash);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<ImageResponse> found = imageObjectRepository.findById(hash)
+                .map(image -> new ImageResponse(image.getImageUrl(), image.getThumbnailUrl(), image.getMediumUrl()));
+        found.ifPresent(response -> cache.put(hash, response));
+        return found;
+    }
+
+    public void register(String hash, ImageResponse response) {
+        try {
+            imageObjectRepository.save(
+                    new ImageObject(hash, response.getImageURL(), response.getThumbnailURL(), response.getMediumURL())
+            );
+        } catch (DataIntegrityViolationException e) {
+            // 같은 내용이 동시에 업로드되어 다른 요청이 먼저 저장한 경우
+        }
+        cache.put(hash, response);
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.expert.domain.image;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+// 업로드 내용의 SHA-256 해시 -> 저장된 파일 URL 색인
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "image_objects")
+@EntityListeners(AuditingEntityListener.class)
+public class ImageObject {
+
+    @Id
+    @Column(length = 64)
+    private String hash;
+
+    @Column(nullable = false)
+    private String imageUrl;
+
+    @Column(nullable = false)
+    private String thumbnailUrl;
+
+    @Column(nullable = false)
+    private String mediumUrl;
+
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    public ImageObject(String hash, String imageUrl, String thumbnailUrl, String mediumUrl) {
+        this.hash = hash;
+        this.imageUrl = imageUrl;
+        this.thumbnailUrl = thumbnailUrl;
+        this.mediumUrl = mediumUrl;
+    }
+}
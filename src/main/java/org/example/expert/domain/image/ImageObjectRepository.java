@@ -0,0 +1,6 @@
+package org.example.expert.domain.image;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ImageObjectRepository extends JpaRepository<ImageObject, String> {
+}
@@ -0,0 +1,184 @@
+package org.example.expert.domain.image;
+
+import jakarta.annotation.PreDestroy;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드 이미지를 한 번만 디코딩하여 원본 크기, 썸네일, 중간 크기의 JPEG 변환본을 만든다.
+ * 원본 크기 변환본을 포함해 모두 디코딩된 픽셀만 다시 인코딩하므로 EXIF(GPS 등) 원본 메타데이터가 포함되지 않는다.
+ * 리사이즈는 CPU 작업이므로 전용 스레드 풀에서만 실행하고, 대기열까지 가득 차면 503 으로 거절한다.
+ */
+@Component
+public class ImageProcessor {
+
+    private static final String OUTPUT_FORMAT = "jpeg";
+
+    private final Map<ImageVariant, Integer> maxWidths = new EnumMap<>(ImageVariant.class);
+    private final float quality;
+    private final long maxPixels;
+    private final ThreadPoolExecutor executor;
+
+    public ImageProcessor(
+            @Value("${image.variant.thumbnail-width:200}") int thumbnailWidth,
+            @Value("${image.variant.medium-width:800}") int mediumWidth,
+            @Value("${image.variant.quality:0.8}") float quality,
+            @Value("${image.processing.max-pixels:50000000}") long maxPixels,
+            @Value("${image.processing.threads:0}") int threads,
+            @Value("${image.processing.queue-capacity:100}") int queueCapacity
+    ) {
+        // 원본 크기 변환본은 업로드 파일 대신 저장하는 메타데이터 없는 사본 (원본보다 크게 늘리지 않으므로 최대값 지정)
+        this.maxWidths.put(ImageVariant.ORIGINAL, Integer.MAX_VALUE);
+        this.maxWidths.put(ImageVariant.THUMBNAIL, thumbnailWidth);
+        this.maxWidths.put(ImageVariant.MEDIUM, mediumWidth);
+        this.quality = quality;
+        this.maxPixels = maxPixels;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-processing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    public Map<ImageVariant, byte[]> process(InputStream inputStream) throws IOException {
+        BufferedImage source = decode(inputStream);
+
+        Map<ImageVariant, Future<byte[]>> futures = new EnumMap<>(ImageVariant.class);
+        try {
+            for (Map.Entry<ImageVariant, Integer> entry : maxWidths.entrySet()) {
+                int maxWidth = entry.getValue();
+                futures.put(entry.getKey(), executor.submit(() -> encode(resize(source, maxWidth))));
+            }
+
+            Map<ImageVariant, byte[]> variants = new EnumMap<>(ImageVariant.class);
+            for (Map.Entry<ImageVariant, Future<byte[]>> entry : futures.entrySet()) {
+                variants.put(entry.getKey(), entry.getValue().get());
+            }
+            return variants;
+        } catch (RejectedExecutionException e) {
+            futures.values().forEach(future -> future.cancel(true));
+            throw new ServiceUnavailableException("이미지 처리 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.values().forEach(future -> future.cancel(true));
+            throw new ServerException("이미지 처리 중 중단되었습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            throw new ServerException("이미지 처리에 실패했습니다.");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // 픽셀 수를 먼저 확인하여 작은 파일로 거대한 이미지를 만드는 업로드가 힙을 소진하지 않도록 함
+    private BufferedImage decode(InputStream inputStream) throws IOException {
+        try (ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            Iterator<ImageReader> readers = imageInputStream == null ? null : ImageIO.getImageReaders(imageInputStream);
+            if (readers == null || !readers.hasNext()) {
+                throw new InvalidRequestException("지원하지 않는 이미지 형식입니다.");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > maxPixels) {
+                    throw new InvalidRequestException("이미지 해상도가 너무 큽니다.");
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 원본보다 크게 늘리지 않으며, 큰 비율 축소는 절반씩 여러 번 줄여 bilinear 보간의 화질 저하를 줄임
+    private BufferedImage resize(BufferedImage source, int maxWidth) {
+        int targetWidth = Math.min(maxWidth, source.getWidth());
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height);
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    // JPEG 는 알파 채널이 없으므로 흰 배경의 RGB 이미지로 그림
+    private BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_SPEED);
+            graphics.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encode(BufferedImage image) {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(OUTPUT_FORMAT).next();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+
+            writer.setOutput(imageOutputStream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+}
@@ -6,8 +6,12 @@ import lombok.Getter;
 public class ImageResponse {
 
     private final String imageURL;
+    private final String thumbnailURL;
+    private final String mediumURL;
 
-    public ImageResponse(String imageURL) {
+    public ImageResponse(String imageURL, String thumbnailURL, String mediumURL) {
         this.imageURL = imageURL;
+        this.thumbnailURL = thumbnailURL;
+        this.mediumURL = mediumURL;
     }
 }
@@ -1,24 +1,80 @@
 package org.example.expert.domain.image;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.storage.ObjectStore;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class ImageService {
 
-    private final S3Uploader s3Uploader;
+    private static final int HASH_BUFFER_SIZE = 64 * 1024;
+
+    private final ObjectStore objectStore;
+    private final ImageProcessor imageProcessor;
+    private final ImageHashIndex imageHashIndex;
 
     public ImageResponse saveFile(MultipartFile imgFile) throws IOException {
         if (!imgFile.isEmpty()) {
-            String storedFileName = s3Uploader.upload(imgFile, "images"); // s3 버킷에 images 디렉토리에 업로드
-            return new ImageResponse(storedFileName);
+            // 내용 해시를 파일 키로 사용하여 같은 이미지는 한 번만 저장
+            String hash = sha256(imgFile);
+            Optional<ImageResponse> stored = imageHashIndex.find(hash);
+            if (stored.isPresent()) {
+                return stored.get();
+            }
+
+            // 원본을 디코딩하여 변환본 생성 (이미지가 아니면 아무것도 업로드하지 않음)
+            Map<ImageVariant, byte[]> variants;
+            try (InputStream inputStream = imgFile.getInputStream()) {
+                variants = imageProcessor.process(inputStream);
+            }
+
+            // 업로드 파일을 그대로 저장하면 EXIF(GPS 등)가 공개되므로 메타데이터를 제거해 다시 인코딩한 원본 크기 사본을 저장
+            String storedFileName = objectStore.put(
+                    "images/" + hash + ".jpg", variants.get(ImageVariant.ORIGINAL), MediaType.IMAGE_JPEG_VALUE
+            );
+            String thumbnailUrl = objectStore.put(
+                    "images/thumbnail/" + hash + ".jpg", variants.get(ImageVariant.THUMBNAIL), MediaType.IMAGE_JPEG_VALUE
+            );
+            String mediumUrl = objectStore.put(
+                    "images/medium/" + hash + ".jpg", variants.get(ImageVariant.MEDIUM), MediaType.IMAGE_JPEG_VALUE
+            );
+
+            ImageResponse response = new ImageResponse(storedFileName, thumbnailUrl, mediumUrl);
+            imageHashIndex.register(hash, response);
+            return response;
         } else {
             throw new IOException("이미지가 없습니다.");
         }
     }
 
+    // 업로드 파일은 이미 서블릿 컨테이너가 받아둔 상태이므로 스트림으로 다시 읽으며 해시 계산
+    private String sha256(MultipartFile imgFile) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        byte[] buffer = new byte[HASH_BUFFER_SIZE];
+        try (InputStream inputStream = imgFile.getInputStream()) {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
 }
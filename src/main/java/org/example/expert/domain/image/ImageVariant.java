@@ -0,0 +1,7 @@
+package org.example.expert.domain.image;
+
+public enum ImageVariant {
+    ORIGINAL,
+    THUMBNAIL,
+    MEDIUM
+}
@@ -0,0 +1,46 @@
+package org.example.expert.domain.log;
+
+import lombok.Getter;
+
+@Getter
+public class AuditLogEntry {
+
+    private final long sequence;
+    private final Long requestUserId;
+    private final Long targetTodoId;
+    private final Long targetUserId;
+    private final long createdAtMillis;
+
+    public AuditLogEntry(long sequence, Long requestUserId, Long targetTodoId, Long targetUserId, long createdAtMillis) {
+        this.sequence = sequence;
+        this.requestUserId = requestUserId;
+        this.targetTodoId = targetTodoId;
+        this.targetUserId = targetUserId;
+        this.createdAtMillis = createdAtMillis;
+    }
+
+    // WAL 한 줄 형식: sequence,requestUserId,targetTodoId,targetUserId,createdAtMillis
+    public String toWalLine() {
+        return sequence + "," + nullToEmpty(requestUserId) + "," + nullToEmpty(targetTodoId) + ","
+                + nullToEmpty(targetUserId) + "," + createdAtMillis + "\n";
+    }
+
+    public static AuditLogEntry fromWalLine(String line) {
+        String[] values = line.split(",", -1);
+        return new AuditLogEntry(
+                Long.parseLong(values[0]),
+                emptyToNull(values[1]),
+                emptyToNull(values[2]),
+                emptyToNull(values[3]),
+                Long.parseLong(values[4])
+        );
+    }
+
+    private static String nullToEmpty(Long value) {
+        return value != null ? value.toString() : "";
+    }
+
+    private static Long emptyToNull(String value) {
+        return value.isEmpty() ? null : Long.valueOf(value);
+    }
+}
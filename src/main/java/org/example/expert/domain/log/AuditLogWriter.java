@@ -0,0 +1,447 @@
+package org.example.expert.domain.log;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 담당자 등록 감사 로그 비동기 배치 기록기.
+ * 요청 스레드는 WAL 파일에 한 줄 기록 후 메모리 버퍼에 넣고 바로 반환하며,
+ * 백그라운드 스레드가 N ms 또는 M 건 단위로 모아 multi-row INSERT 로 log 테이블에 기록한다.
+ * 비즈니스 트랜잭션과 무관하게 WAL 에 먼저 기록되므로, 롤백이나 프로세스 비정상 종료 시에도
+ * 다음 기동 시 WAL 을 재적재하여 로그가 유실되지 않는다. (at-least-once)
+ * 버퍼 자리를 얻지 못하면 제한 시간만 기다린 뒤 503 으로 거절하고, DB 기록이 실패하는 동안에는 기다리지 않고 바로 거절한다.
+ * 동시에 기록한 요청들의 fsync 는 한 번으로 묶는다. (group commit)
+ */
+@Slf4j
+@Component
+public class AuditLogWriter {
+
+    private static final String SEGMENT_PREFIX = "audit-";
+    private static final String SEGMENT_SUFFIX = ".wal";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Path walDirectory;
+    private final int maxBatchSize;
+    private final long flushIntervalMillis;
+    private final long maxSegmentBytes;
+    private final boolean fsync;
+    private final long offerTimeoutMillis;
+    private final long maxRetryBackoffMillis;
+    private final int bufferCapacity;
+    private final BlockingQueue<AuditLogEntry> buffer;
+    // 버퍼 빈자리. 자리를 먼저 확보한 뒤에만 버퍼에 넣으므로 appendLock 을 잡은 채 대기하지 않음
+    private final Semaphore capacity;
+    // flusher 가 버퍼에서 꺼낸 뒤 아직 DB 에 기록하지 못한 배치 (flushLock 으로 보호)
+    // 종료 시 중단된 배치를 버리면 뒤이은 flush() 가 더 큰 sequence 까지 WAL 을 정리하여 유실되므로, 남겨두었다가 먼저 기록
+    private final List<AuditLogEntry> inFlight;
+
+    // 가상 스레드에서 파일 IO 중 carrier 스레드가 고정되지 않도록 synchronized 대신 ReentrantLock 사용
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ReentrantLock syncLock = new ReentrantLock();
+    // flusher 는 appendLock 없이 닫힌 세그먼트를 정리하므로 동시 접근 가능한 deque 사용
+    private final Deque<WalSegment> closedSegments = new ConcurrentLinkedDeque<>();
+    private WalSegment currentSegment;
+    private long appendedSequence;
+    private volatile long syncedSequence;
+
+    private volatile boolean running = true;
+    // DB 기록이 실패하는 동안에는 버퍼 자리를 기다리지 않고 바로 거절
+    private volatile boolean writeFailing;
+    private Thread flusher;
+
+    public AuditLogWriter(
+            JdbcTemplate jdbcTemplate,
+            @Value("${audit-log.wal-directory:audit-wal}") String walDirectory,
+            @Value("${audit-log.buffer-capacity:65536}") int bufferCapacity,
+            @Value("${audit-log.batch-size:500}") int maxBatchSize,
+            @Value("${audit-log.flush-interval-ms:200}") long flushIntervalMillis,
+            @Value("${audit-log.max-segment-bytes:67108864}") long maxSegmentBytes,
+            @Value("${audit-log.fsync:true}") boolean fsync,
+            @Value("${audit-log.offer-timeout-ms:500}") long offerTimeoutMillis,
+            @Value("${audit-log.retry-max-backoff-ms:30000}") long maxRetryBackoffMillis
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.walDirectory = Paths.get(walDirectory);
+        this.bufferCapacity = bufferCapacity;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.capacity = new Semaphore(bufferCapacity, true);
+        this.maxBatchSize = maxBatchSize;
+        this.inFlight = new ArrayList<>(maxBatchSize);
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.maxSegmentBytes = maxSegmentBytes;
+        this.fsync = fsync;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.maxRetryBackoffMillis = maxRetryBackoffMillis;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        Files.createDirectories(walDirectory);
+        // 이전 실행에서 DB 에 기록되지 못한 WAL 재적재
+        long lastSequence = recover();
+        appendLock.lock();
+        try {
+            appendedSequence = lastSequence;
+            syncedSequence = lastSequence;
+            currentSegment = WalSegment.open(walDirectory, appendedSequence + 1);
+        } finally {
+            appendLock.unlock();
+        }
+
+        flusher = new Thread(this::runFlusher, "audit-log-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    public void append(Long requestUserId, Long targetTodoId, Long targetUserId) {
+        appendAll(requestUserId, targetTodoId, Collections.singletonList(targetUserId));
+    }
+
+    // 여러 건을 WAL 에 이어 쓰고 fsync 는 잠금 밖에서 다른 요청과 묶어 한 번만 수행
+    public void appendAll(Long requestUserId, Long targetTodoId, List<Long> targetUserIds) {
+        reserve(targetUserIds.size());
+
+        long lastSequence;
+        int buffered = 0;
+        appendLock.lock();
+        try {
+            long now = System.currentTimeMillis();
+            for (Long targetUserId : targetUserIds) {
+                AuditLogEntry entry = new AuditLogEntry(++appendedSequence, requestUserId, targetTodoId, targetUserId, now);
+                currentSegment.write(entry);
+                if (currentSegment.size() >= maxSegmentBytes) {
+                    currentSegment.force(fsync);
+                    currentSegment.close();
+                    closedSegments.add(currentSegment);
+                    currentSegment = WalSegment.open(walDirectory, appendedSequence + 1);
+                }
+                // 자리를 미리 확보했으므로 대기 없이 들어감 (순서 보장을 위해 appendLock 안에서 적재)
+                buffer.add(entry);
+                buffered++;
+            }
+            lastSequence = appendedSequence;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            appendLock.unlock();
+            capacity.release(targetUserIds.size() - buffered);
+        }
+
+        sync(lastSequence);
+    }
+
+    // 버퍼에 남아있는 로그를 즉시 DB 에 기록
+    // WAL 은 기록된 마지막 sequence 까지 정리되므로, 중단된 flusher 의 배치를 뒤의 로그보다 먼저 기록
+    public void flush() {
+        flushLock.lock();
+        try {
+            if (!inFlight.isEmpty()) {
+                write(inFlight);
+                inFlight.clear();
+            }
+            List<AuditLogEntry> batch = new ArrayList<>();
+            while (drain(batch, maxBatchSize) > 0) {
+                write(batch);
+                batch.clear();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        flusher.interrupt();
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+        flush();
+        appendLock.lock();
+        try {
+            currentSegment.close();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    // 버퍼 자리 확보. DB 기록 실패 중이거나 제한 시간 안에 자리가 나지 않으면 요청 스레드를 붙잡지 않고 503
+    private void reserve(int count) {
+        if (count > bufferCapacity) {
+            throw new InvalidRequestException("한 번에 기록할 수 있는 감사 로그는 최대 " + bufferCapacity + "건입니다.");
+        }
+        try {
+            long timeoutMillis = writeFailing ? 0 : offerTimeoutMillis;
+            if (!capacity.tryAcquire(count, timeoutMillis, TimeUnit.MILLISECONDS)) {
+                log.warn("감사 로그 버퍼가 가득 차 요청을 거절합니다. 건수: {}", count);
+                throw new ServiceUnavailableException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerException("감사 로그 기록 중 중단되었습니다.");
+        }
+    }
+
+    // group commit: 앞선 fsync 가 내 sequence 까지 덮었으면 건너뛰고, 아니면 그 시점까지 쓰인 전체를 한 번에 fsync
+    private void sync(long sequence) {
+        if (!fsync || syncedSequence >= sequence) {
+            return;
+        }
+        syncLock.lock();
+        try {
+            if (syncedSequence >= sequence) {
+                return;
+            }
+            WalSegment segment;
+            long target;
+            appendLock.lock();
+            try {
+                segment = currentSegment;
+                target = appendedSequence;
+            } finally {
+                appendLock.unlock();
+            }
+            try {
+                segment.force(true);
+            } catch (ClosedChannelException e) {
+                // 그 사이 교체된 세그먼트는 닫기 전에 fsync 되었음
+            }
+            syncedSequence = target;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void runFlusher() {
+        while (running) {
+            try {
+                // 버퍼에서 꺼낸 뒤 DB 에 기록할 때까지 flushLock 을 유지하여 flush() 호출 시 기록 순서를 보장
+                flushLock.lockInterruptibly();
+                try {
+                    collect(inFlight);
+                    if (!inFlight.isEmpty()) {
+                        writeWithRetry(inFlight);
+                        inFlight.clear();
+                    }
+                } finally {
+                    flushLock.unlock();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (!inFlight.isEmpty()) {
+                    // 꺼낸 배치는 inFlight 에 남겨두고 stop() 의 flush() 에서 기록
+                    log.info("감사 로그 기록이 중단되었습니다. 종료 전 기록할 건수: {}", inFlight.size());
+                }
+                return;
+            }
+        }
+    }
+
+    // 첫 로그 이후 flushIntervalMillis 가 지나거나 maxBatchSize 가 찰 때까지 모음
+    private void collect(List<AuditLogEntry> batch) throws InterruptedException {
+        AuditLogEntry first = buffer.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        capacity.release();
+        batch.add(first);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        while (batch.size() < maxBatchSize) {
+            drain(batch, maxBatchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || remaining <= 0) {
+                return;
+            }
+            AuditLogEntry next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            capacity.release();
+            batch.add(next);
+        }
+    }
+
+    private int drain(List<AuditLogEntry> batch, int maxElements) {
+        int drained = buffer.drainTo(batch, maxElements);
+        capacity.release(drained);
+        return drained;
+    }
+
+    // 배치는 WAL 에 남아 있으므로 버리지 않고, 실패가 이어지면 재시도 간격을 maxRetryBackoffMillis 까지 늘림
+    private void writeWithRetry(List<AuditLogEntry> batch) throws InterruptedException {
+        long backoffMillis = flushIntervalMillis;
+        while (true) {
+            try {
+                write(batch);
+                writeFailing = false;
+                return;
+            } catch (RuntimeException e) {
+                writeFailing = true;
+                log.error("감사 로그 저장에 실패했습니다. {}ms 후 재시도합니다. 건수: {}", backoffMillis, batch.size(), e);
+                Thread.sleep(backoffMillis);
+                backoffMillis = Math.min(backoffMillis * 2, maxRetryBackoffMillis);
+            }
+        }
+    }
+
+    private void write(List<AuditLogEntry> batch) {
+        insert(batch);
+        releaseSegments(batch.get(batch.size() - 1).getSequence());
+    }
+
+    // 한 번의 multi-row INSERT 로 기록
+    private void insert(List<AuditLogEntry> batch) {
+        StringBuilder sql = new StringBuilder("INSERT INTO log (request_user_id, target_todo_id, target_user_id, created_at) VALUES ");
+        List<Object> params = new ArrayList<>(batch.size() * 4);
+        for (int i = 0; i < batch.size(); i++) {
+            AuditLogEntry entry = batch.get(i);
+            sql.append(i == 0 ? "(?, ?, ?, ?)" : ", (?, ?, ?, ?)");
+            params.add(entry.getRequestUserId());
+            params.add(entry.getTargetTodoId());
+            params.add(entry.getTargetUserId());
+            params.add(new Timestamp(entry.getCreatedAtMillis()));
+        }
+        jdbcTemplate.update(sql.toString(), params.toArray());
+    }
+
+    // DB 에 기록이 끝난 WAL 구간 정리
+    // flusher 가 appendLock 을 기다리지 않도록, 현재 세그먼트 비우기는 잠금을 바로 얻었을 때만 수행 (못 비운 내용은 다음 정리 때 비움)
+    private void releaseSegments(long flushedSequence) {
+        try {
+            WalSegment oldest;
+            while ((oldest = closedSegments.peekFirst()) != null && oldest.lastSequence() <= flushedSequence) {
+                closedSegments.pollFirst();
+                oldest.delete();
+            }
+            if (closedSegments.isEmpty() && appendLock.tryLock()) {
+                try {
+                    if (closedSegments.isEmpty() && flushedSequence >= appendedSequence) {
+                        currentSegment.truncate();
+                    }
+                } finally {
+                    appendLock.unlock();
+                }
+            }
+        } catch (IOException e) {
+            log.warn("감사 로그 WAL 정리에 실패했습니다.", e);
+        }
+    }
+
+    private long recover() throws IOException {
+        List<Path> segments;
+        try (Stream<Path> files = Files.list(walDirectory)) {
+            segments = files
+                    .filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+
+        long lastSequence = 0;
+        for (Path segment : segments) {
+            List<AuditLogEntry> entries = new ArrayList<>();
+            for (String line : Files.readAllLines(segment, StandardCharsets.UTF_8)) {
+                try {
+                    entries.add(AuditLogEntry.fromWalLine(line));
+                } catch (RuntimeException e) {
+                    // 비정상 종료로 마지막 줄이 잘린 경우
+                    log.warn("손상된 감사 로그 WAL 라인을 건너뜁니다. 파일: {}", segment.getFileName());
+                }
+            }
+            for (int from = 0; from < entries.size(); from += maxBatchSize) {
+                insert(entries.subList(from, Math.min(from + maxBatchSize, entries.size())));
+            }
+            if (!entries.isEmpty()) {
+                lastSequence = Math.max(lastSequence, entries.get(entries.size() - 1).getSequence());
+                log.info("감사 로그 WAL 을 재적재했습니다. 파일: {}, 건수: {}", segment.getFileName(), entries.size());
+            }
+            Files.delete(segment);
+        }
+        return lastSequence;
+    }
+
+    private static class WalSegment {
+
+        private final Path path;
+        private final FileChannel channel;
+        private long lastSequence;
+
+        private WalSegment(Path path, FileChannel channel) {
+            this.path = path;
+            this.channel = channel;
+        }
+
+        // 파일명에 시작 sequence 를 0 패딩하여 사전순 정렬이 기록 순서와 같도록 함
+        private static WalSegment open(Path directory, long firstSequence) throws IOException {
+            Path path = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX));
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            return new WalSegment(path, channel);
+        }
+
+        private void write(AuditLogEntry entry) throws IOException {
+            ByteBuffer bytes = ByteBuffer.wrap(entry.toWalLine().getBytes(StandardCharsets.UTF_8));
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            lastSequence = entry.getSequence();
+        }
+
+        private void force(boolean fsync) throws IOException {
+            if (fsync) {
+                channel.force(false);
+            }
+        }
+
+        private long size() throws IOException {
+            return channel.size();
+        }
+
+        private long lastSequence() {
+            return lastSequence;
+        }
+
+        private void truncate() throws IOException {
+            channel.truncate(0);
+        }
+
+        private void close() throws IOException {
+            channel.close();
+        }
+
+        private void delete() throws IOException {
+            Files.deleteIfExists(path);
+        }
+    }
+}
@@ -15,7 +15,11 @@ import java.time.LocalDateTime;
 @Entity
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "log")
+@Table(name = "log", indexes = {
+        @Index(name = "idx_log_target_todo_id_created_at", columnList = "target_todo_id, created_at"),
+        @Index(name = "idx_log_target_user_id_created_at", columnList = "target_user_id, created_at"),
+        @Index(name = "idx_log_request_user_id_created_at", columnList = "request_user_id, created_at")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class Log {
 
@@ -29,7 +33,7 @@ public class Log {
     private Long targetUserId;
 
     @CreatedDate
-    @Column(updatable = false)
+    @Column(nullable = false, updatable = false)
     @Temporal(TemporalType.TIMESTAMP)
     private LocalDateTime createdAt;
 }
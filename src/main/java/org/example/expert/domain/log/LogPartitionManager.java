@@ -0,0 +1,200 @@
+package org.example.expert.domain.log;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.MySqlNamedLock;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * log 테이블의 월 단위 파티션과 보관 기간을 관리한다.
+ * MySQL 에서는 created_at 기준 RANGE COLUMNS 파티션으로 전환한 뒤, 매일 다음 달 파티션을 미리 만들고
+ * 보관 기간이 지난 파티션은 행 단위 DELETE 없이 통째로 DROP 한다. (archive 설정 시 log_archive_yyyyMM 테이블로 분리 보관)
+ * 파티션 전환은 웹 서버가 요청을 받기 전에 실행하며, 전환과 매일의 파티션 변경은 GET_LOCK 으로 한 인스턴스만 수행한다.
+ * 파티션을 지원하지 않는 DB(H2 등)에서는 created_at 기준 일괄 DELETE 로 대신한다.
+ */
+@Slf4j
+@Component
+public class LogPartitionManager implements SmartInitializingSingleton {
+
+    private static final String TABLE = "log";
+    private static final String MAX_PARTITION = "pmax";
+    private static final String LOCK_NAME = "expert.log-partition";
+    // 파티션 전환은 테이블을 다시 쓰므로 먼저 잠금을 잡은 인스턴스가 끝날 때까지 기다림
+    private static final int LOCK_TIMEOUT_SECONDS = 3600;
+    private static final DateTimeFormatter PARTITION_NAME_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final DateTimeFormatter ARCHIVE_TABLE_FORMAT = DateTimeFormatter.ofPattern("'log_archive_'yyyyMM");
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final LogRepository logRepository;
+    private final int retentionMonths;
+    private final int premakeMonths;
+    private final boolean archive;
+
+    private volatile boolean mysql;
+
+    public LogPartitionManager(
+            DataSource dataSource,
+            JdbcTemplate jdbcTemplate,
+            LogRepository logRepository,
+            @Value("${audit-log.retention-months:12}") int retentionMonths,
+            @Value("${audit-log.partition.premake-months:3}") int premakeMonths,
+            @Value("${audit-log.retention.archive:false}") boolean archive
+    ) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.logRepository = logRepository;
+        this.retentionMonths = retentionMonths;
+        this.premakeMonths = premakeMonths;
+        this.archive = archive;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        String productName;
+        try {
+            productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException(e);
+        }
+        mysql = "MySQL".equalsIgnoreCase(productName);
+        if (!mysql || !findPartitions(jdbcTemplate, TABLE).isEmpty()) {
+            return;
+        }
+
+        // 잠금을 잡은 뒤 다시 확인하므로 먼저 전환한 인스턴스가 있으면 건너뜀
+        MySqlNamedLock.execute(jdbcTemplate, LOCK_NAME, LOCK_TIMEOUT_SECONDS, locked -> {
+            if (findPartitions(locked, TABLE).isEmpty()) {
+                partitionTable(locked);
+            }
+            return null;
+        });
+    }
+
+    @Scheduled(cron = "${audit-log.retention.cron:0 30 3 * * *}")
+    public void maintain() {
+        YearMonth oldestRetained = YearMonth.now().minusMonths(retentionMonths - 1L);
+        if (!mysql) {
+            int deleted = logRepository.deleteAllCreatedBefore(oldestRetained.atDay(1).atStartOfDay());
+            log.info("Log retention finished - deleted rows: {}", deleted);
+            return;
+        }
+
+        MySqlNamedLock.execute(jdbcTemplate, LOCK_NAME, LOCK_TIMEOUT_SECONDS, locked -> {
+            List<String> partitions = findPartitions(locked, TABLE);
+            if (!partitions.isEmpty()) {
+                addFuturePartitions(locked, partitions);
+                dropExpiredPartitions(locked, partitions, oldestRetained);
+            }
+            return null;
+        });
+    }
+
+    // 기존 데이터의 가장 오래된 달부터 premakeMonths 뒤까지 파티션을 만들어 전환
+    private void partitionTable(JdbcTemplate locked) {
+        locked.update("UPDATE log SET created_at = NOW(6) WHERE created_at IS NULL");
+
+        // 파티션 키는 모든 unique key 에 포함되어야 하므로 PK 를 (id, created_at) 으로 변경
+        locked.execute(
+                "ALTER TABLE log MODIFY created_at DATETIME(6) NOT NULL, " +
+                        "DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at)"
+        );
+
+        LocalDateTime oldest = locked.queryForObject("SELECT MIN(created_at) FROM log", LocalDateTime.class);
+        YearMonth from = oldest == null ? YearMonth.now() : YearMonth.from(oldest);
+        YearMonth to = YearMonth.now().plusMonths(premakeMonths);
+
+        StringJoiner definitions = new StringJoiner(", ");
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            definitions.add(partitionDefinition(month));
+        }
+        definitions.add("PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+
+        locked.execute("ALTER TABLE log PARTITION BY RANGE COLUMNS(created_at) (" + definitions + ")");
+        log.info("Log table partitioned - from: {}, to: {}", from, to);
+    }
+
+    // pmax 를 분할하여 마지막 월 파티션 다음 달부터 premakeMonths 뒤까지 생성
+    // 작업이 멈춰 있던 동안의 달도 각자의 파티션으로 나뉘므로, 그 사이 pmax 에 쌓인 행도 해당 월 파티션으로 옮겨짐
+    private void addFuturePartitions(JdbcTemplate locked, List<String> partitions) {
+        YearMonth to = YearMonth.now().plusMonths(premakeMonths);
+        YearMonth latest = partitions.stream()
+                .filter(partition -> !MAX_PARTITION.equals(partition))
+                .map(partition -> YearMonth.parse(partition, PARTITION_NAME_FORMAT))
+                .max(YearMonth::compareTo)
+                .orElse(null);
+        YearMonth from = latest == null ? YearMonth.now() : latest.plusMonths(1);
+        if (from.isAfter(to)) {
+            return;
+        }
+
+        StringJoiner definitions = new StringJoiner(", ");
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            definitions.add(partitionDefinition(month));
+        }
+        definitions.add("PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+
+        locked.execute("ALTER TABLE log REORGANIZE PARTITION " + MAX_PARTITION + " INTO (" + definitions + ")");
+        log.info("Log partitions added - from: {}, to: {}", from, to);
+    }
+
+    private void dropExpiredPartitions(JdbcTemplate locked, List<String> partitions, YearMonth oldestRetained) {
+        for (String partition : partitions) {
+            if (MAX_PARTITION.equals(partition)) {
+                continue;
+            }
+            YearMonth month = YearMonth.parse(partition, PARTITION_NAME_FORMAT);
+            if (!month.isBefore(oldestRetained)) {
+                continue;
+            }
+
+            if (archive) {
+                archivePartition(locked, partition, month);
+            }
+            locked.execute("ALTER TABLE log DROP PARTITION " + partition);
+            log.info("Log partition dropped - partition: {}, archived: {}", partition, archive);
+        }
+    }
+
+    // EXCHANGE PARTITION 은 데이터 복사 없이 파티션과 빈 테이블을 맞바꿈
+    // 중간에 실패한 작업을 다시 실행해도 되도록 단계마다 이미 끝났는지 확인
+    private void archivePartition(JdbcTemplate locked, String partition, YearMonth month) {
+        String archiveTable = month.format(ARCHIVE_TABLE_FORMAT);
+        locked.execute("CREATE TABLE IF NOT EXISTS " + archiveTable + " LIKE log");
+        if (!findPartitions(locked, archiveTable).isEmpty()) {
+            locked.execute("ALTER TABLE " + archiveTable + " REMOVE PARTITIONING");
+        }
+        // 이미 맞바꾼 경우 archive 테이블에 데이터가 있고 파티션은 비어 있으므로 다시 맞바꾸지 않음
+        Integer archived = locked.queryForObject("SELECT EXISTS (SELECT 1 FROM " + archiveTable + ")", Integer.class);
+        if (archived == null || archived == 0) {
+            locked.execute("ALTER TABLE log EXCHANGE PARTITION " + partition + " WITH TABLE " + archiveTable);
+        }
+    }
+
+    private static List<String> findPartitions(JdbcTemplate jdbcTemplate, String table) {
+        return jdbcTemplate.queryForList(
+                "SELECT partition_name FROM information_schema.partitions " +
+                        "WHERE table_schema = DATABASE() AND table_name = ? AND partition_name IS NOT NULL " +
+                        "ORDER BY partition_ordinal_position",
+                String.class, table
+        );
+    }
+
+    private String partitionDefinition(YearMonth month) {
+        return "PARTITION " + month.format(PARTITION_NAME_FORMAT) +
+                " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "')";
+    }
+}
@@ -1,6 +1,60 @@
 package org.example.expert.domain.log;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
 
 public interface LogRepository extends JpaRepository<Log, Long> {
+
+    // 기간 조건은 [from, to) 반열린 구간 (MySQL 에서는 해당 월 파티션만 조회)
+    @Query("""
+        SELECT l FROM Log l
+        WHERE l.targetTodoId = :todoId
+        AND l.createdAt >= :from AND l.createdAt < :to
+        ORDER BY l.createdAt DESC
+        """)
+    Slice<Log> findByTargetTodoIdAndPeriod(
+            @Param("todoId") Long todoId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            Pageable pageable
+    );
+
+    @Query("""
+        SELECT l FROM Log l
+        WHERE l.targetUserId = :userId
+        AND l.createdAt >= :from AND l.createdAt < :to
+        ORDER BY l.createdAt DESC
+        """)
+    Slice<Log> findByTargetUserIdAndPeriod(
+            @Param("userId") Long userId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            Pageable pageable
+    );
+
+    @Query("""
+        SELECT l FROM Log l
+        WHERE l.requestUserId = :userId
+        AND l.createdAt >= :from AND l.createdAt < :to
+        ORDER BY l.createdAt DESC
+        """)
+    Slice<Log> findByRequestUserIdAndPeriod(
+            @Param("userId") Long userId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            Pageable pageable
+    );
+
+    // 파티션을 지원하지 않는 DB 에서의 보관 기간 정리용
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Log l WHERE l.createdAt < :before")
+    int deleteAllCreatedBefore(@Param("before") LocalDateTime before);
 }
@@ -2,24 +2,22 @@ package org.example.expert.domain.log;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class LogService {
 
-    private final LogRepository logRepository;
+    private final AuditLogWriter auditLogWriter;
 
-    // saveManager() 트랜잭션과 별개로 트랜잭션 할당
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    // saveManager() 트랜잭션과 무관하게 WAL 기록 후 비동기 배치로 저장
     public void save(Long requestUserId, Long targetTodoId, Long targetUserId){
-        logRepository.save(
-                Log.builder()
-                .requestUserId(requestUserId)
-                .targetTodoId(targetTodoId)
-                .targetUserId(targetUserId)
-                .build()
-        );
+        auditLogWriter.append(requestUserId, targetTodoId, targetUserId);
+    }
+
+    // 담당자 일괄 등록 시 감사 로그도 한 번에 기록
+    public void saveAll(Long requestUserId, Long targetTodoId, List<Long> targetUserIds){
+        auditLogWriter.appendAll(requestUserId, targetTodoId, targetUserIds);
     }
 }
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.log.LogService;
+import org.example.expert.domain.manager.dto.request.ManagerBatchSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
@@ -20,6 +21,9 @@ import org.springframework.util.ObjectUtils;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -54,6 +58,7 @@ public class ManagerService {
 
         Manager newManagerUser = new Manager(managerUser, todo);
         Manager savedManagerUser = managerRepository.save(newManagerUser);
+        todoRepository.addManagerCount(todoId, 1);
 
         return new ManagerSaveResponse(
                 savedManagerUser.getId(),
@@ -61,6 +66,54 @@ public class ManagerService {
         );
     }
 
+    // 담당자 일괄 등록: 일정, 작성자 검증은 한 번만 하고 유저는 IN 쿼리 한 번으로 조회, 저장은 JDBC batch
+    @Transactional
+    public List<ManagerSaveResponse> saveManagers(AuthUser authUser, long todoId, ManagerBatchSaveRequest managerBatchSaveRequest) {
+        List<Long> managerUserIds = managerBatchSaveRequest.getManagerUserIds().stream().distinct().toList();
+
+        // Exception 발생 전 로그 저장 (한 번의 WAL 기록)
+        logService.saveAll(authUser.getUserId(), todoId, managerUserIds);
+
+        // 일정을 만든 유저
+        User user = User.fromAuthUser(authUser);
+        Todo todo = todoRepository.findById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+
+        if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(user.getId(), todo.getUser().getId())) {
+            throw new InvalidRequestException("담당자를 등록하려고 하는 유저가 유효하지 않거나, 일정을 만든 유저가 아닙니다.");
+        }
+
+        if (managerUserIds.contains(user.getId())) {
+            throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
+        }
+
+        Map<Long, User> managerUsers = userRepository.findAllById(managerUserIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        List<Long> notFoundIds = managerUserIds.stream()
+                .filter(id -> !managerUsers.containsKey(id))
+                .toList();
+        if (!notFoundIds.isEmpty()) {
+            throw new InvalidRequestException("등록하려고 하는 담당자 유저가 존재하지 않습니다. " + notFoundIds);
+        }
+
+        List<Manager> newManagers = new ArrayList<>(managerUserIds.size());
+        for (Long managerUserId : managerUserIds) {
+            newManagers.add(new Manager(managerUsers.get(managerUserId), todo));
+        }
+        List<Manager> savedManagers = managerRepository.saveAll(newManagers);
+        todoRepository.addManagerCount(todoId, savedManagers.size());
+
+        List<ManagerSaveResponse> dtoList = new ArrayList<>(savedManagers.size());
+        for (Manager manager : savedManagers) {
+            User managerUser = manager.getUser();
+            dtoList.add(new ManagerSaveResponse(
+                    manager.getId(),
+                    new UserResponse(managerUser.getId(), managerUser.getEmail())
+            ));
+        }
+        return dtoList;
+    }
+
     public List<ManagerResponse> getManagers(long todoId) {
         Todo todo = todoRepository.findById(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
@@ -97,5 +150,6 @@ public class ManagerService {
         }
 
         managerRepository.delete(manager);
+        todoRepository.addManagerCount(todoId, -1);
     }
 }
@@ -0,0 +1,102 @@
+package org.example.expert.domain.storage;
+
+import jakarta.annotation.PostConstruct;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 로컬 파일시스템 저장소 (온프레미스, 테스트, 벤치마크용).
+ * 임시 파일에 FileChannel.transferFrom 으로 기록한 뒤 원자적 이동(rename)으로 공개하므로
+ * 읽는 쪽에서 기록 중인 파일이 보이지 않는다.
+ * 한 디렉토리에 파일이 몰리지 않도록 key 해시 앞 4자리로 2단계 하위 디렉토리(ab/cd/)에 나누어 저장한다.
+ */
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalObjectStore implements ObjectStore {
+
+    private static final String TEMP_DIRECTORY = ".tmp";
+
+    private final Path root;
+    private final Path tempDirectory;
+    private final String baseUrl;
+
+    public LocalObjectStore(
+            @Value("${storage.local.root:storage}") String root,
+            @Value("${storage.local.base-url:/files}") String baseUrl
+    ) {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        this.tempDirectory = this.root.resolve(TEMP_DIRECTORY);
+        this.baseUrl = baseUrl;
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        Files.createDirectories(tempDirectory);
+    }
+
+    @Override
+    public String put(String key, InputStream inputStream, long size, String contentType) throws IOException {
+        Path target = resolve(key);
+        Path temp = Files.createTempFile(tempDirectory, "upload-", ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE);
+                 ReadableByteChannel source = Channels.newChannel(inputStream)) {
+                long position = 0;
+                while (position < size) {
+                    long transferred = channel.transferFrom(source, position, size - position);
+                    if (transferred <= 0) {
+                        throw new IOException("업로드 파일 크기가 일치하지 않습니다.");
+                    }
+                    position += transferred;
+                }
+                channel.force(true);
+            }
+
+            Files.createDirectories(target.getParent());
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return baseUrl + "/" + key;
+    }
+
+    // key 를 실제 저장 경로로 변환, 저장소 밖을 가리키는 key 는 거부
+    public Path resolve(String key) {
+        if (key == null || key.isEmpty() || key.startsWith("/") || key.contains("\\") || key.contains("..")) {
+            throw new InvalidRequestException("유효하지 않은 파일 경로입니다.");
+        }
+
+        String shard = sha256Hex(key);
+        Path path = root.resolve(shard.substring(0, 2)).resolve(shard.substring(2, 4)).resolve(key).normalize();
+        if (!path.startsWith(root) || path.startsWith(tempDirectory)) {
+            throw new InvalidRequestException("유효하지 않은 파일 경로입니다.");
+        }
+        return path;
+    }
+
+    private String sha256Hex(String key) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.expert.domain.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 업로드 파일 저장소. storage.type 설정으로 S3(s3) 또는 로컬 파일시스템(local) 구현을 선택한다.
+ */
+public interface ObjectStore {
+
+    // key 위치에 size 바이트를 저장하고 접근 URL 반환 (같은 key 는 덮어씀)
+    String put(String key, InputStream inputStream, long size, String contentType) throws IOException;
+
+    default String put(String key, byte[] content, String contentType) throws IOException {
+        return put(key, new ByteArrayInputStream(content), content.length, contentType);
+    }
+}
@@ -0,0 +1,181 @@
+package org.example.expert.domain.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3ObjectStore implements ObjectStore {
+
+    // S3 multipart 업로드의 최소 part 크기 (마지막 part 제외)
+    private static final long MIN_PART_SIZE = DataSize.ofMegabytes(5).toBytes();
+
+    private final AmazonS3Client amazonS3Client;
+    private final long multipartThreshold;
+    private final int partSize;
+    private final int maxPartsInFlight;
+    // AWS SDK v1 은 요청 처리 중 synchronized 블록 안에서 소켓 IO 를 수행하므로, 가상 스레드 모드에서 요청 스레드의
+    // carrier 가 고정되지 않도록 SDK 호출은 모두 이 플랫폼 스레드 풀에서 실행하고 요청 스레드는 결과만 기다림
+    private final ExecutorService s3Executor;
+
+    @Value("${cloud.aws.s3.bucketName}")
+    private String bucket;
+
+    public S3ObjectStore(
+            AmazonS3Client amazonS3Client,
+            @Value("${image.upload.multipart-threshold:16MB}") DataSize multipartThreshold,
+            @Value("${image.upload.part-size:8MB}") DataSize partSize,
+            @Value("${image.upload.max-parts-in-flight:4}") int maxPartsInFlight,
+            @Value("${image.upload.threads:8}") int threads
+    ) {
+        this.amazonS3Client = amazonS3Client;
+        this.multipartThreshold = multipartThreshold.toBytes();
+        this.partSize = (int) Math.max(partSize.toBytes(), MIN_PART_SIZE);
+        this.maxPartsInFlight = maxPartsInFlight;
+        this.s3Executor = Executors.newFixedThreadPool(threads);
+    }
+
+    // InputStream 을 로컬 파일 없이 그대로 S3 에 업로드
+    @Override
+    public String put(String fileName, InputStream inputStream, long size, String contentType) throws IOException {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(size);
+        metadata.setContentType(contentType);
+
+        if (size < multipartThreshold) {
+            putS3(inputStream, fileName, metadata);
+        } else {
+            multipartPutS3(inputStream, fileName, metadata);
+        }
+        return amazonS3Client.getUrl(bucket, fileName).toString(); // 업로드된 파일의 S3 URL 주소 반환
+    }
+
+    // 크기를 알고 있으므로 SDK 가 스트림 전체를 메모리에 올리지 않고 전송
+    private void putS3(InputStream inputStream, String fileName, ObjectMetadata metadata) throws IOException {
+        callS3(() -> amazonS3Client.putObject(
+                new PutObjectRequest(bucket, fileName, inputStream, metadata)
+                        .withCannedAcl(CannedAccessControlList.PublicRead) // PublicRead 권한으로 업로드
+        ));
+    }
+
+    // partSize 단위로 읽어 병렬 업로드, 동시에 메모리에 있는 part 는 maxPartsInFlight 개로 제한 (업로드당 최대 partSize * maxPartsInFlight)
+    private void multipartPutS3(InputStream inputStream, String fileName, ObjectMetadata metadata) throws IOException {
+        String uploadId = callS3(() -> amazonS3Client.initiateMultipartUpload(
+                new InitiateMultipartUploadRequest(bucket, fileName, metadata)
+                        .withCannedACL(CannedAccessControlList.PublicRead)
+        ).getUploadId());
+
+        Semaphore inFlight = new Semaphore(maxPartsInFlight);
+        List<Future<PartETag>> parts = new ArrayList<>();
+        try {
+            for (int partNumber = 1; ; partNumber++) {
+                inFlight.acquire();
+                byte[] buffer = inputStream.readNBytes(partSize);
+                if (buffer.length == 0) {
+                    inFlight.release();
+                    break;
+                }
+
+                UploadPartRequest request = new UploadPartRequest()
+                        .withBucketName(bucket)
+                        .withKey(fileName)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber)
+                        .withPartSize(buffer.length)
+                        .withInputStream(new ByteArrayInputStream(buffer));
+                parts.add(s3Executor.submit(() -> {
+                    try {
+                        return amazonS3Client.uploadPart(request).getPartETag();
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+
+                if (buffer.length < partSize) {
+                    break;
+                }
+            }
+
+            List<PartETag> partETags = new ArrayList<>(parts.size());
+            for (Future<PartETag> part : parts) {
+                partETags.add(part.get());
+            }
+            callS3(() -> amazonS3Client.completeMultipartUpload(
+                    new CompleteMultipartUploadRequest(bucket, fileName, uploadId, partETags)
+            ));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort(fileName, uploadId, parts);
+            throw new IOException("파일 업로드가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            abort(fileName, uploadId, parts);
+            throw new IOException("파일 업로드에 실패했습니다.", e.getCause());
+        } catch (IOException | RuntimeException e) {
+            abort(fileName, uploadId, parts);
+            throw e;
+        }
+    }
+
+    // 업로드된 part 가 S3 에 남아 비용이 발생하지 않도록 multipart 업로드 취소
+    private void abort(String fileName, String uploadId, List<Future<PartETag>> parts) {
+        parts.forEach(part -> part.cancel(true));
+        try {
+            callS3(() -> {
+                amazonS3Client.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, fileName, uploadId));
+                return null;
+            });
+        } catch (IOException | RuntimeException e) {
+            log.warn("multipart 업로드 취소에 실패했습니다. uploadId: {}", uploadId, e);
+        }
+    }
+
+    private <T> T callS3(Callable<T> call) throws IOException {
+        Future<T> future = s3Executor.submit(call);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IOException("파일 업로드가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IOException("파일 업로드에 실패했습니다.", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        s3Executor.shutdown();
+    }
+
+}
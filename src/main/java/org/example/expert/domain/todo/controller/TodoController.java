@@ -1,22 +1,33 @@
 package org.example.expert.domain.todo.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.service.TodoBatchService;
+import org.example.expert.domain.todo.service.TodoExportService;
 import org.example.expert.domain.todo.service.TodoService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
@@ -25,6 +36,8 @@ import java.time.LocalDateTime;
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoBatchService todoBatchService;
+    private final TodoExportService todoExportService;
 
     @PostMapping("/todos")
     public ResponseEntity<TodoSaveResponse> saveTodo(
@@ -34,6 +47,15 @@ public class TodoController {
         return ResponseEntity.ok(todoService.saveTodo(authUser, todoSaveRequest));
     }
 
+    // JSON 배열로 여러 일정을 한 번에 등록 (본문을 스트리밍으로 읽어 chunk 단위로 저장)
+    @PostMapping(value = "/todos/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<TodoBatchResponse> saveTodos(
+            @AuthenticationPrincipal AuthUser authUser,
+            HttpServletRequest request
+    ) throws IOException {
+        return ResponseEntity.ok(todoBatchService.saveTodos(authUser, request.getInputStream()));
+    }
+
     // 날씨, 수정일 조건검색 추가
     @GetMapping("/todos")
     public ResponseEntity<Page<TodoResponse>> getTodos(
@@ -44,6 +66,43 @@ public class TodoController {
         return ResponseEntity.ok(todoService.getTodos(page, size, weather, startTime, endTime));
     }
 
+    // withTotal=false 이면 전체 개수(count 쿼리) 없이 다음 페이지 존재 여부만 반환
+    @GetMapping(value = "/todos", params = {"withTotal=false", "!cursor"})
+    public ResponseEntity<Slice<TodoResponse>> getTodosWithoutTotal(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String weather, LocalDateTime startTime, LocalDateTime endTime
+    ) {
+        return ResponseEntity.ok(todoService.getTodosWithoutTotal(page, size, weather, startTime, endTime));
+    }
+
+    // cursor 파라미터가 있으면 키셋 페이지네이션 (첫 페이지는 빈 값으로 요청)
+    @GetMapping(value = "/todos", params = "cursor")
+    public ResponseEntity<CursorResponse<TodoResponse>> getTodosByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String weather, LocalDateTime startTime, LocalDateTime endTime
+    ) {
+        return ResponseEntity.ok(todoService.getTodosByCursor(cursor, size, weather, startTime, endTime));
+    }
+
+    // 전체 일정을 NDJSON(한 줄에 일정 하나, 담당자와 댓글 포함)으로 스트리밍 (Accept-Encoding 에 gzip 이 있으면 압축)
+    @GetMapping("/todos/export")
+    public ResponseEntity<StreamingResponseBody> exportTodos(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletRequest request
+    ) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"todos.ndjson\"")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(todoExportService.exportTodos(gzip, WebAsyncUtils.getAsyncManager(request)));
+    }
+
     @GetMapping("/todos/{todoId}")
     public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
         return ResponseEntity.ok(todoService.getTodo(todoId));
@@ -58,4 +117,30 @@ public class TodoController {
     ) {
         return ResponseEntity.ok(todoService.searchTodos(keywordTitle, startTime, endTime, keywordNickname, pageable));
     }
+
+    // withTotal=false 이면 전체 개수(count 쿼리) 없이 다음 페이지 존재 여부만 반환
+    @GetMapping(value = "/todos/search", params = {"withTotal=false", "!cursor"})
+    public ResponseEntity<Slice<TodoSearchResponse>> searchTodosWithoutTotal(
+            @RequestParam(required = false)
+            String keywordTitle, LocalDateTime startTime, LocalDateTime endTime, String keywordNickname,
+            @PageableDefault(page = 1, size = 10)
+            Pageable pageable
+    ) {
+        return ResponseEntity.ok(todoService.searchTodosWithoutTotal(
+                keywordTitle, startTime, endTime, keywordNickname, pageable
+        ));
+    }
+
+    // cursor 파라미터가 있으면 키셋 페이지네이션 (첫 페이지는 빈 값으로 요청)
+    @GetMapping(value = "/todos/search", params = "cursor")
+    public ResponseEntity<CursorResponse<TodoSearchResponse>> searchTodosByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false)
+            String keywordTitle, LocalDateTime startTime, LocalDateTime endTime, String keywordNickname
+    ) {
+        return ResponseEntity.ok(todoService.searchTodosByCursor(
+                keywordTitle, startTime, endTime, keywordNickname, cursor, size
+        ));
+    }
 }
@@ -0,0 +1,26 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+// 요청 배열의 index 번째 항목 처리 결과 (성공 시 id, 실패 시 error)
+@Getter
+public class TodoBatchItemResponse {
+
+    private final int index;
+    private final Long id;
+    private final String error;
+
+    private TodoBatchItemResponse(int index, Long id, String error) {
+        this.index = index;
+        this.id = id;
+        this.error = error;
+    }
+
+    public static TodoBatchItemResponse success(int index, Long id) {
+        return new TodoBatchItemResponse(index, id, null);
+    }
+
+    public static TodoBatchItemResponse failure(int index, String error) {
+        return new TodoBatchItemResponse(index, null, error);
+    }
+}
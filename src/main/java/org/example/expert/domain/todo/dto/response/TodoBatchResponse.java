@@ -0,0 +1,21 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoBatchResponse {
+
+    private final String weather;
+    private final int succeeded;
+    private final int failed;
+    private final List<TodoBatchItemResponse> results;
+
+    public TodoBatchResponse(String weather, List<TodoBatchItemResponse> results) {
+        this.weather = weather;
+        this.results = results;
+        this.succeeded = (int) results.stream().filter(result -> result.getError() == null).count();
+        this.failed = results.size() - succeeded;
+    }
+}
@@ -2,17 +2,25 @@ package org.example.expert.domain.todo.dto.response;
 
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+
 @Getter
 public class TodoSearchResponse {
 
+    private final Long id;
+
     private final String title;
 
+    private final LocalDateTime createdAt;
+
     private final Long countManagers;
 
     private final Long countComments;
 
-    public TodoSearchResponse(String title, Long countManagers, Long countComments){
+    public TodoSearchResponse(Long id, String title, LocalDateTime createdAt, Long countManagers, Long countComments){
+        this.id = id;
         this.title = title;
+        this.createdAt = createdAt;
         this.countManagers = countManagers;
         this.countComments = countComments;
     }
@@ -3,7 +3,9 @@ package org.example.expert.domain.todo.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.common.entity.IdGenerators;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.user.entity.User;
@@ -14,15 +16,38 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+// 키셋 페이지네이션 정렬 컬럼에 맞춘 복합 인덱스
+@Table(name = "todos", indexes = {
+        @Index(name = "idx_todos_modified_at_id", columnList = "modified_at, id"),
+        @Index(name = "idx_todos_created_at_id", columnList = "created_at, id")
+})
 public class Todo extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "todo_id")
+    @TableGenerator(
+            name = "todo_id",
+            table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "todos",
+            allocationSize = IdGenerators.ALLOCATION_SIZE
+    )
     private Long id;
     private String title;
     private String contents;
     private String weather;
 
+    // 검색 시 managers, comments join/집계를 피하기 위한 비정규화 카운터
+    // 변경은 TodoRepository 의 원자적 증감 쿼리로만 수행
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long managerCount;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long commentCount;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -41,5 +66,6 @@ public class Todo extends Timestamped {
         this.weather = weather;
         this.user = user;
         this.managers.add(new Manager(user, this));
+        this.managerCount = this.managers.size();
     }
 }
@@ -0,0 +1,50 @@
+package org.example.expert.domain.todo.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일정 대량 등록용 JDBC batch 저장소.
+ * 엔티티를 거치지 않고 todos, 작성자 manager 행을 각각 한 번의 batch 로 INSERT 한다.
+ * (Todo 생성자와 같은 규칙으로 작성자를 담당자로 등록하고 manager_count 를 1 로 저장)
+ */
+@Repository
+@RequiredArgsConstructor
+public class TodoBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 호출 측 트랜잭션 안에서 실행하며, 저장된 일정 id 를 요청 순서대로 반환
+    // id 는 [firstTodoId, firstTodoId + size), [firstManagerId, firstManagerId + size) 구간을 사용 (IdBlockAllocator 로 미리 할당)
+    public List<Long> insertTodos(
+            List<TodoSaveRequest> requests, String weather, Long userId, long firstTodoId, long firstManagerId
+    ) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Long> todoIds = new ArrayList<>(requests.size());
+        List<Object[]> todos = new ArrayList<>(requests.size());
+        List<Object[]> managers = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            TodoSaveRequest request = requests.get(i);
+            long todoId = firstTodoId + i;
+            todoIds.add(todoId);
+            todos.add(new Object[]{todoId, request.getTitle(), request.getContents(), weather, userId, 1, 0, now, now});
+            managers.add(new Object[]{firstManagerId + i, userId, todoId});
+        }
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO todos (id, title, contents, weather, user_id, manager_count, comment_count, created_at, modified_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                todos
+        );
+        jdbcTemplate.batchUpdate("INSERT INTO managers (id, user_id, todo_id) VALUES (?, ?, ?)", managers);
+        return todoIds;
+    }
+}
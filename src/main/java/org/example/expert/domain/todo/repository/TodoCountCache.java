@@ -0,0 +1,48 @@
+package org.example.expert.domain.todo.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 일정 페이징 count 쿼리 결과를 짧은 시간 동안 보관하는 캐시.
+ * 같은 검색 조건으로 페이지만 넘기는 요청이 count 쿼리를 반복하지 않도록 한다.
+ */
+public class TodoCountCache {
+
+    private static final String NULL_MARKER = "-";
+
+    private final Cache<String, Long> cache;
+
+    public TodoCountCache(long ttlSeconds, int maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public long get(String key, LongSupplier countQuery) {
+        return cache.get(key, ignored -> countQuery.getAsLong());
+    }
+
+    /**
+     * 쿼리에 실제로 적용되는 조건 값 그대로 캐시 키 생성.
+     * 값을 가공하지 않으므로 호출 측은 쿼리에 쓰지 않는 조건을 null 로 넘겨야 한다.
+     * null 과 빈 문자열을 구분하고, 값 앞에 길이를 붙여 값 안의 구분자로 키가 겹치지 않도록 한다.
+     */
+    public static String key(String type, Object... conditions) {
+        StringBuilder key = new StringBuilder(type);
+        for (Object condition : conditions) {
+            key.append('|');
+            if (condition == null) {
+                key.append(NULL_MARKER);
+                continue;
+            }
+            String value = condition.toString();
+            key.append(value.length()).append(':').append(value);
+        }
+        return key.toString();
+    }
+}
@@ -4,8 +4,10 @@ import org.example.expert.domain.todo.entity.Todo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -34,4 +36,32 @@ public interface TodoRepository extends JpaRepository<Todo, Long>, TodoRepositor
 //            "WHERE t.id = :todoId")
 //    Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
 
+    // 비정규화 카운터 원자적 증감 (동시 요청에도 lost update 가 없도록 DB 에서 계산)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Todo t SET t.managerCount = t.managerCount + :delta WHERE t.id = :todoId")
+    int addManagerCount(@Param("todoId") Long todoId, @Param("delta") long delta);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Todo t SET t.commentCount = t.commentCount + :delta WHERE t.id = :todoId")
+    int addCommentCount(@Param("todoId") Long todoId, @Param("delta") long delta);
+
+    @Query("SELECT MAX(t.id) FROM Todo t")
+    Long findMaxId();
+
+    // 모든 일정은 작성자를 담당자로 갖고 생성되므로, 담당자 수가 0 인 일정이 있으면 카운터가 채워지지 않았을 수 있음
+    // (담당자를 모두 삭제한 일정이 있으면 기동 시 재계산이 다시 실행되지만 결과는 같음)
+    boolean existsByManagerCount(long managerCount);
+
+    // id 구간 단위로 카운터를 실제 managers, comments 개수로 재계산 (어긋난 행만 갱신하고 갱신 건수 반환)
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE Todo t
+        SET t.managerCount = (SELECT COUNT(m) FROM Manager m WHERE m.todo.id = t.id),
+            t.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.todo.id = t.id)
+        WHERE t.id >= :fromId AND t.id < :toId
+          AND (t.managerCount <> (SELECT COUNT(m) FROM Manager m WHERE m.todo.id = t.id)
+            OR t.commentCount <> (SELECT COUNT(c) FROM Comment c WHERE c.todo.id = t.id))
+        """)
+    int recalculateCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
@@ -1,10 +1,13 @@
 package org.example.expert.domain.todo.repository;
 
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -17,8 +20,26 @@ public interface TodoRepositoryQuery {
             String weather, LocalDateTime startTime, LocalDateTime endTime, Pageable pageable
     );
 
+    Slice<TodoResponse> findTodosByWeatherAndModifiedAtWithSlice(
+            String weather, LocalDateTime startTime, LocalDateTime endTime, Pageable pageable
+    );
+
+    CursorResponse<TodoResponse> findTodosByWeatherAndModifiedAtWithCursor(
+            String weather, LocalDateTime startTime, LocalDateTime endTime, Cursor cursor, int size
+    );
+
     Page<TodoSearchResponse> searchTodosByTitleAndCreatedAtAndManagers(
             String keywordTitle, LocalDateTime startTime, LocalDateTime endTime, String keywordNickname,
             Pageable convertPageable
     );
+
+    Slice<TodoSearchResponse> searchTodosByTitleAndCreatedAtAndManagersWithSlice(
+            String keywordTitle, LocalDateTime startTime, LocalDateTime endTime, String keywordNickname,
+            Pageable pageable
+    );
+
+    CursorResponse<TodoSearchResponse> searchTodosByTitleAndCreatedAtAndManagersWithCursor(
+            String keywordTitle, LocalDateTime startTime, LocalDateTime endTime, String keywordNickname,
+            Cursor cursor, int size
+    );
 }
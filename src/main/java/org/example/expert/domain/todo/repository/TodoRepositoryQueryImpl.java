@@ -2,29 +2,50 @@ package org.example.expert.domain.todo.repository;
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import lombok.RequiredArgsConstructor;
+import org.example.expert.config.FullTextFunctionContributor;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.user.dto.response.UserResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-import static org.example.expert.domain.comment.entity.QComment.comment;
 import static org.example.expert.domain.manager.entity.QManager.manager;
 import static org.example.expert.domain.todo.entity.QTodo.todo;
 import static org.example.expert.domain.user.entity.QUser.user;
 
-@RequiredArgsConstructor
 public class TodoRepositoryQueryImpl implements TodoRepositoryQuery {
 
+    // MySQL ngram_token_size 기본값
+    private static final int NGRAM_TOKEN_SIZE = 2;
+
     private final JPAQueryFactory jpaQueryFactory;
+    private final TodoCountCache todoCountCache;
+
+    public TodoRepositoryQueryImpl(
+            JPAQueryFactory jpaQueryFactory,
+            @Value("${todo.count-cache.ttl-seconds:30}") long countCacheTtlSeconds,
+            @Value("${todo.count-cache.max-size:10000}") int countCacheMaxSize
+    ) {
+        this.jpaQueryFactory = jpaQueryFactory;
+        this.todoCountCache = new TodoCountCache(countCacheTtlSeconds, countCacheMaxSize);
+    }
 
 
     @Override
@@ -66,17 +87,93 @@ public class TodoRepositoryQueryImpl implements TodoRepositoryQuery {
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        Long total = jpaQueryFactory
+        JPAQuery<Long> countQuery = jpaQueryFactory
                 .select(todo.countDistinct())
                 .from(todo)
+                .where(
+                        weather != null ? todo.weather.eq(weather) : null,
+                        startTime != null ? todo.modifiedAt.goe(startTime) : null,
+                        endTime != null ? todo.modifiedAt.loe(endTime) : null
+                );
+
+        // 첫 페이지가 size 보다 작거나 마지막 페이지면 count 쿼리 생략, 필요할 때도 캐시된 값 우선 사용
+        String countKey = TodoCountCache.key("todos", weather, startTime, endTime);
+        return PageableExecutionUtils.getPage(result, pageable,
+                () -> todoCountCache.get(countKey, () -> fetchCount(countQuery)));
+    }
+
+    @Override
+    public Slice<TodoResponse> findTodosByWeatherAndModifiedAtWithSlice(
+            String weather, LocalDateTime startTime, LocalDateTime endTime, Pageable pageable
+    ) {
+        // count 쿼리 없이 size + 1 건 조회로 다음 페이지 존재 여부만 판단
+        List<TodoResponse> result = jpaQueryFactory
+                .select(
+                        Projections.constructor(
+                                TodoResponse.class,
+                                todo.id,
+                                todo.title,
+                                todo.contents,
+                                todo.weather,
+                                Projections.constructor(UserResponse.class, user.id, user.email),
+                                todo.createdAt,
+                                todo.modifiedAt
+                        )
+                )
+                .from(todo)
+                .leftJoin(todo.user, user)
                 .where(
                         weather != null ? todo.weather.eq(weather) : null,
                         startTime != null ? todo.modifiedAt.goe(startTime) : null,
                         endTime != null ? todo.modifiedAt.loe(endTime) : null
                 )
-                .fetchOne();
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1)
+                .fetch();
 
-        return new PageImpl<>(result, pageable, total != null ? total : 0L);
+        return toSlice(result, pageable);
+    }
+
+    @Override
+    public CursorResponse<TodoResponse> findTodosByWeatherAndModifiedAtWithCursor(
+            String weather, LocalDateTime startTime, LocalDateTime endTime, Cursor cursor, int size
+    ) {
+        // offset 대신 (modifiedAt, id) 기준 seek 조건으로 다음 페이지 조회
+        // 다음 페이지 존재 여부 확인을 위해 size + 1 건 조회
+        List<TodoResponse> result = jpaQueryFactory
+                .select(
+                        Projections.constructor(
+                                TodoResponse.class,
+                                todo.id,
+                                todo.title,
+                                todo.contents,
+                                todo.weather,
+                                Projections.constructor(UserResponse.class, user.id, user.email),
+                                todo.createdAt,
+                                todo.modifiedAt
+                        )
+                )
+                .from(todo)
+                .leftJoin(todo.user, user)
+                .where(
+                        weather != null ? todo.weather.eq(weather) : null,
+                        startTime != null ? todo.modifiedAt.goe(startTime) : null,
+                        endTime != null ? todo.modifiedAt.loe(endTime) : null,
+                        cursor != null ? modifiedAtBefore(cursor) : null
+                )
+                .orderBy(todo.modifiedAt.desc(), todo.id.desc())
+                .limit(size + 1)
+                .fetch();
+
+        boolean hasNext = result.size() > size;
+        List<TodoResponse> content = hasNext ? result.subList(0, size) : result;
+        String nextCursor = null;
+        if (hasNext) {
+            TodoResponse last = content.get(content.size() - 1);
+            nextCursor = new Cursor(last.getModifiedAt(), last.getId()).encode();
+        }
+
+        return new CursorResponse<>(content, nextCursor, hasNext);
     }
 
     @Override
@@ -84,54 +181,172 @@ public class TodoRepositoryQueryImpl implements TodoRepositoryQuery {
             String keywordTitle, LocalDateTime startTime, LocalDateTime endTime, String keywordNickname,
             Pageable pageable
     ) {
-        // 조건 생성: 제목, 생성일 범위, 담당자 닉네임 (부분 일치)
-        BooleanBuilder condition = new BooleanBuilder();
-        if (keywordTitle != null && !keywordTitle.isEmpty()) {
-            condition.and(todo.title.contains(keywordTitle));
-        }
-        if (startTime != null) {
-            condition.and(todo.createdAt.goe(startTime));
-        }
-        if (endTime != null) {
-            condition.and(todo.createdAt.loe(endTime));
-        }
-        if (keywordNickname != null && !keywordNickname.isEmpty()) {
-            // todo와 연관된 매니저의 User의 nickname 조건
-            condition.and(manager.user.nickname.contains(keywordNickname));
-        }
+        BooleanBuilder condition = searchCondition(keywordTitle, startTime, endTime, keywordNickname);
 
         // 실제 데이터 조회 쿼리
+        // 담당자 수, 댓글 수는 Todo 의 비정규화 카운터를 사용하여 managers, comments join 및 group by 제거
         List<TodoSearchResponse> content = jpaQueryFactory
                 .select(Projections.constructor(
                         TodoSearchResponse.class,
+                        todo.id,
                         todo.title,                                // 일정 제목
-                        manager.id.countDistinct(),                // 담당자 수 (중복 제거)
-                        comment.id.countDistinct()                 // 총 댓글 개수 (중복 제거)
+                        todo.createdAt,
+                        todo.managerCount,                         // 담당자 수
+                        todo.commentCount                          // 총 댓글 개수
                 ))
                 .from(todo)
-                // 매니저와 매니저의 user join (담당자 닉네임 조건 및 담당자 수 집계)
-                .leftJoin(todo.managers, manager)
-                .leftJoin(manager.user, user)
-                // 댓글 join (댓글 수 집계)
-                .leftJoin(todo.comments, comment)
                 .where(condition)
-                // 그룹화: todo의 고유값과 선택된 컬럼만 그룹화 (기본키와 제목, 생성일)
-                .groupBy(todo.id, todo.title, todo.createdAt)
                 // 생성일 기준 내림차순 정렬 (최신순)
                 .orderBy(todo.createdAt.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        // 전체 개수 조회: 조건에 맞는 Todo의 개수를 DISTINCT로 계산
-        Long total = jpaQueryFactory
-                .select(todo.countDistinct())
+        // 전체 개수 조회: 조건에 맞는 Todo의 개수 (join 이 없으므로 DISTINCT 불필요)
+        JPAQuery<Long> countQuery = jpaQueryFactory
+                .select(todo.count())
+                .from(todo)
+                .where(condition);
+
+        // 첫 페이지가 size 보다 작거나 마지막 페이지면 count 쿼리 생략, 필요할 때도 캐시된 값 우선 사용
+        String countKey = TodoCountCache.key(
+                "search", hasKeyword(keywordTitle) ? keywordTitle : null, startTime, endTime,
+                hasKeyword(keywordNickname) ? keywordNickname : null
+        );
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> todoCountCache.get(countKey, () -> fetchCount(countQuery)));
+    }
+
+    @Override
+    public Slice<TodoSearchResponse> searchTodosByTitleAndCreatedAtAndManagersWithSlice(
+            String keywordTitle, LocalDateTime startTime, LocalDateTime endTime, String keywordNickname,
+            Pageable pageable
+    ) {
+        BooleanBuilder condition = searchCondition(keywordTitle, startTime, endTime, keywordNickname);
+
+        // count 쿼리 없이 size + 1 건 조회로 다음 페이지 존재 여부만 판단
+        List<TodoSearchResponse> content = jpaQueryFactory
+                .select(Projections.constructor(
+                        TodoSearchResponse.class,
+                        todo.id,
+                        todo.title,
+                        todo.createdAt,
+                        todo.managerCount,
+                        todo.commentCount
+                ))
                 .from(todo)
-                .leftJoin(todo.managers, manager)
-                .leftJoin(manager.user, user)
                 .where(condition)
-                .fetchOne();
+                .orderBy(todo.createdAt.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1)
+                .fetch();
+
+        return toSlice(content, pageable);
+    }
+
+    @Override
+    public CursorResponse<TodoSearchResponse> searchTodosByTitleAndCreatedAtAndManagersWithCursor(
+            String keywordTitle, LocalDateTime startTime, LocalDateTime endTime, String keywordNickname,
+            Cursor cursor, int size
+    ) {
+        BooleanBuilder condition = searchCondition(keywordTitle, startTime, endTime, keywordNickname);
+        if (cursor != null) {
+            condition.and(createdAtBefore(cursor));
+        }
+
+        List<TodoSearchResponse> result = jpaQueryFactory
+                .select(Projections.constructor(
+                        TodoSearchResponse.class,
+                        todo.id,
+                        todo.title,
+                        todo.createdAt,
+                        todo.managerCount,
+                        todo.commentCount
+                ))
+                .from(todo)
+                .where(condition)
+                // 동일 생성일 정렬 안정성을 위해 id 를 보조 정렬 키로 사용
+                .orderBy(todo.createdAt.desc(), todo.id.desc())
+                .limit(size + 1)
+                .fetch();
+
+        boolean hasNext = result.size() > size;
+        List<TodoSearchResponse> content = hasNext ? result.subList(0, size) : result;
+        String nextCursor = null;
+        if (hasNext) {
+            TodoSearchResponse last = content.get(content.size() - 1);
+            nextCursor = new Cursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return new CursorResponse<>(content, nextCursor, hasNext);
+    }
+
+    private static long fetchCount(JPAQuery<Long> countQuery) {
+        Long total = countQuery.fetchOne();
+        return total != null ? total : 0L;
+    }
+
+    private static <T> Slice<T> toSlice(List<T> result, Pageable pageable) {
+        boolean hasNext = result.size() > pageable.getPageSize();
+        List<T> content = hasNext ? result.subList(0, pageable.getPageSize()) : result;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    private static boolean hasKeyword(String keyword) {
+        return keyword != null && !keyword.isEmpty();
+    }
+
+    // 조건 생성: 제목, 생성일 범위, 담당자 닉네임 (부분 일치)
+    private BooleanBuilder searchCondition(
+            String keywordTitle, LocalDateTime startTime, LocalDateTime endTime, String keywordNickname
+    ) {
+        BooleanBuilder condition = new BooleanBuilder();
+        if (hasKeyword(keywordTitle)) {
+            condition.and(fullTextContains(todo.title, keywordTitle));
+        }
+        if (startTime != null) {
+            condition.and(todo.createdAt.goe(startTime));
+        }
+        if (endTime != null) {
+            condition.and(todo.createdAt.loe(endTime));
+        }
+        if (hasKeyword(keywordNickname)) {
+            // todo와 연관된 매니저의 User의 nickname 조건 (join 대신 exists 로 행 증식 방지)
+            condition.and(JPAExpressions
+                    .selectOne()
+                    .from(manager)
+                    .join(manager.user, user)
+                    .where(
+                            manager.todo.id.eq(todo.id),
+                            fullTextContains(user.nickname, keywordNickname)
+                    )
+                    .exists());
+        }
+        return condition;
+    }
+
+    // '%keyword%' LIKE 대신 ngram FULLTEXT 인덱스를 타는 구문 검색 (ngram 크기보다 짧은 검색어는 LIKE 유지)
+    private BooleanExpression fullTextContains(StringPath path, String keyword) {
+        String phrase = keyword.replace("\"", "");
+        if (phrase.length() < NGRAM_TOKEN_SIZE) {
+            return path.contains(keyword);
+        }
+        return Expressions.numberTemplate(
+                Double.class,
+                "function('" + FullTextFunctionContributor.MATCH_AGAINST + "', {0}, {1})",
+                path, "\"" + phrase + "\""
+        ).gt(0.0);
+    }
+
+    // (modifiedAt, id) < (cursor.time, cursor.id)
+    private BooleanExpression modifiedAtBefore(Cursor cursor) {
+        return todo.modifiedAt.lt(cursor.getTime())
+                .or(todo.modifiedAt.eq(cursor.getTime()).and(todo.id.lt(cursor.getId())));
+    }
 
-        return new PageImpl<>(content, pageable, total != null ? total : 0L);
+    // (createdAt, id) < (cursor.time, cursor.id)
+    private BooleanExpression createdAtBefore(Cursor cursor) {
+        return todo.createdAt.lt(cursor.getTime())
+                .or(todo.createdAt.eq(cursor.getTime()).and(todo.id.lt(cursor.getId())));
     }
 }
@@ -0,0 +1,180 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherCache;
+import org.example.expert.config.IdBlockAllocator;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchItemResponse;
+import org.example.expert.domain.todo.dto.response.TodoBatchResponse;
+import org.example.expert.domain.todo.repository.TodoBulkRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 일정 대량 등록.
+ * 요청 본문(JSON 배열)을 전체 역직렬화하지 않고 항목 단위로 읽어 chunkSize 개씩 별도 트랜잭션으로 저장한다.
+ * 날씨는 요청당 한 번만 조회하고, 객체가 아니거나 필드 타입이 맞지 않거나 검증에 실패한 항목은 건너뛰며 항목별 결과를 반환한다.
+ * 저장에 실패한 chunk 는 해당 chunk 항목만 실패로 처리하고, 이미 커밋된 chunk 는 유지된다.
+ * 형식 오류나 최대 개수 초과로 중단되면 이미 커밋된 일정 수를 오류 메시지로 알려 재시도 범위를 판단할 수 있게 한다.
+ */
+@Slf4j
+@Service
+public class TodoBatchService {
+
+    private final TodoBulkRepository todoBulkRepository;
+    private final IdBlockAllocator idBlockAllocator;
+    private final WeatherCache weatherCache;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxItems;
+
+    public TodoBatchService(
+            TodoBulkRepository todoBulkRepository,
+            IdBlockAllocator idBlockAllocator,
+            WeatherCache weatherCache,
+            ObjectMapper objectMapper,
+            Validator validator,
+            PlatformTransactionManager transactionManager,
+            @Value("${todo.batch.chunk-size:1000}") int chunkSize,
+            @Value("${todo.batch.max-items:100000}") int maxItems
+    ) {
+        this.todoBulkRepository = todoBulkRepository;
+        this.idBlockAllocator = idBlockAllocator;
+        this.weatherCache = weatherCache;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    public TodoBatchResponse saveTodos(AuthUser authUser, InputStream inputStream) throws IOException {
+        String weather = weatherCache.getTodayWeather();
+
+        List<TodoBatchItemResponse> results = new ArrayList<>();
+        List<TodoSaveRequest> chunk = new ArrayList<>(chunkSize);
+        List<Integer> chunkIndexes = new ArrayList<>(chunkSize);
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new InvalidRequestException("요청 본문은 JSON 배열이어야 합니다.");
+            }
+
+            int index = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (index >= maxItems) {
+                    // 앞선 chunk 는 이미 커밋되었으므로 저장된 수를 함께 알림 (대기 중인 chunk 는 저장하지 않음)
+                    throw new InvalidRequestException(
+                            "한 번에 등록할 수 있는 일정은 최대 " + maxItems + "개입니다. 앞의 " + countSucceeded(results) + "개 일정은 저장되었습니다."
+                    );
+                }
+
+                if (parser.currentToken() != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    results.add(TodoBatchItemResponse.failure(index++, "배열의 각 항목은 JSON 객체여야 합니다."));
+                    continue;
+                }
+                // 항목 하나를 먼저 트리로 읽어, 필드 타입 오류가 나도 다음 항목부터 이어서 읽을 수 있게 함
+                JsonNode item = objectMapper.readTree(parser);
+                TodoSaveRequest request;
+                try {
+                    request = objectMapper.treeToValue(item, TodoSaveRequest.class);
+                } catch (JsonMappingException e) {
+                    results.add(TodoBatchItemResponse.failure(index++, mappingError(e)));
+                    continue;
+                }
+
+                String error = validate(request);
+                if (error != null) {
+                    results.add(TodoBatchItemResponse.failure(index++, error));
+                    continue;
+                }
+
+                chunk.add(request);
+                chunkIndexes.add(index++);
+                if (chunk.size() == chunkSize) {
+                    results.addAll(saveChunk(authUser, weather, chunk, chunkIndexes));
+                    chunk.clear();
+                    chunkIndexes.clear();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            // 형식 오류 이전까지 저장된 항목 수를 함께 알려 재시도 범위를 판단할 수 있게 함
+            throw new InvalidRequestException(
+                    "잘못된 JSON 형식입니다. 앞의 " + countSucceeded(results) + "개 일정은 저장되었습니다."
+            );
+        }
+
+        if (!chunk.isEmpty()) {
+            results.addAll(saveChunk(authUser, weather, chunk, chunkIndexes));
+        }
+        return new TodoBatchResponse(weather, results);
+    }
+
+    private static String mappingError(JsonMappingException e) {
+        String field = e.getPath().stream()
+                .map(JsonMappingException.Reference::getFieldName)
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining("."));
+        return (field.isEmpty() ? "" : field + ": ") + "잘못된 값 형식입니다.";
+    }
+
+    private String validate(TodoSaveRequest request) {
+        Set<ConstraintViolation<TodoSaveRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        ConstraintViolation<TodoSaveRequest> violation = violations.iterator().next();
+        return violation.getPropertyPath() + ": " + violation.getMessage();
+    }
+
+    private List<TodoBatchItemResponse> saveChunk(
+            AuthUser authUser, String weather, List<TodoSaveRequest> chunk, List<Integer> indexes
+    ) {
+        List<TodoBatchItemResponse> results = new ArrayList<>(chunk.size());
+        try {
+            // id 구간 할당은 자체 트랜잭션으로 커밋되므로, chunk 트랜잭션을 열기 전에 받아 커넥션을 동시에 두 개 잡지 않도록 함
+            long firstTodoId = idBlockAllocator.allocate("todos", chunk.size());
+            long firstManagerId = idBlockAllocator.allocate("managers", chunk.size());
+            List<Long> ids = transactionTemplate.execute(
+                    status -> todoBulkRepository.insertTodos(chunk, weather, authUser.getUserId(), firstTodoId, firstManagerId)
+            );
+            for (int i = 0; i < ids.size(); i++) {
+                results.add(TodoBatchItemResponse.success(indexes.get(i), ids.get(i)));
+            }
+        } catch (DataAccessException e) {
+            log.warn("todo batch chunk failed - size: {}", chunk.size(), e);
+            for (Integer index : indexes) {
+                results.add(TodoBatchItemResponse.failure(index, "일정 저장에 실패했습니다."));
+            }
+        }
+        return results;
+    }
+
+    private static long countSucceeded(List<TodoBatchItemResponse> results) {
+        return results.stream().filter(result -> result.getError() == null).count();
+    }
+}
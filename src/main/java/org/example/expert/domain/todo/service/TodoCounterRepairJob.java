@@ -0,0 +1,100 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.MySqlNamedLock;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * Todo 의 비정규화 카운터(managerCount, commentCount)가 실제 개수와 어긋난 경우를 보정하는 작업.
+ * 전체 테이블을 한 번에 잠그지 않도록 id 구간 단위로 나누어 구간마다 별도 트랜잭션으로 재계산하며,
+ * 실제 개수와 다른 행만 갱신한다.
+ * 카운터 컬럼 추가 전부터 있던 일정은 0 으로 채워지므로, 웹 서버가 요청을 받기 전에 채워지지 않은 일정이 있으면 한 번 재계산한다.
+ * MySQL 에서는 GET_LOCK 으로 한 인스턴스만 재계산하며, 정기 작업은 다른 인스턴스가 실행 중이면 건너뛴다.
+ */
+@Slf4j
+@Component
+public class TodoCounterRepairJob implements SmartInitializingSingleton {
+
+    private static final String LOCK_NAME = "expert.todo-counter-repair";
+    // 기동 시 재계산은 먼저 잠금을 잡은 인스턴스가 끝날 때까지 기다린 뒤 다시 확인
+    private static final int LOCK_TIMEOUT_SECONDS = 3600;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TodoRepository todoRepository;
+    private final long batchSize;
+
+    private volatile boolean mysql;
+
+    public TodoCounterRepairJob(
+            DataSource dataSource,
+            JdbcTemplate jdbcTemplate,
+            TodoRepository todoRepository,
+            @Value("${todo.counter-repair.batch-size:1000}") long batchSize
+    ) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.todoRepository = todoRepository;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        String productName;
+        try {
+            productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException(e);
+        }
+        mysql = "MySQL".equalsIgnoreCase(productName);
+        if (!todoRepository.existsByManagerCount(0)) {
+            return;
+        }
+
+        if (!mysql) {
+            repair();
+            return;
+        }
+        // 잠금을 잡은 뒤 다시 확인하므로 먼저 재계산한 인스턴스가 있으면 건너뜀
+        MySqlNamedLock.execute(jdbcTemplate, LOCK_NAME, LOCK_TIMEOUT_SECONDS, locked -> {
+            if (todoRepository.existsByManagerCount(0)) {
+                repair();
+            }
+            return null;
+        });
+    }
+
+    @Scheduled(cron = "${todo.counter-repair.cron:0 0 4 * * *}")
+    public void repairCounts() {
+        if (!mysql) {
+            repair();
+            return;
+        }
+        if (!MySqlNamedLock.tryExecute(jdbcTemplate, LOCK_NAME, locked -> repair())) {
+            log.info("Todo counter repair skipped - running on another instance");
+        }
+    }
+
+    private void repair() {
+        Long maxId = todoRepository.findMaxId();
+        if (maxId == null) {
+            return;
+        }
+
+        int repaired = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += batchSize) {
+            repaired += todoRepository.recalculateCounts(fromId, fromId + batchSize);
+        }
+        log.info("Todo counter repair finished - maxId: {}, repaired rows: {}", maxId, repaired);
+    }
+}
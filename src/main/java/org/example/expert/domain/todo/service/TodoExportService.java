@@ -0,0 +1,288 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 전체 일정 NDJSON 내보내기.
+ * todos, managers, comments 를 각각 todo id 순으로 정렬된 forward-only cursor 로 읽고,
+ * 같은 todo id 끼리 병합(merge join)하여 한 줄에 일정 하나씩 바로 출력한다.
+ * 일정별 추가 쿼리가 없고, 행을 모아두지 않으므로 일정 수와 무관하게 메모리 사용량이 일정하다.
+ * cursor 마다 별도 커넥션을 사용하므로 세 cursor 가 같은 시점의 스냅샷을 보지는 않는다.
+ */
+@Slf4j
+@Service
+public class TodoExportService {
+
+    private static final String TODO_SQL =
+            "SELECT id, title, contents, weather, user_id, manager_count, comment_count, created_at, modified_at " +
+                    "FROM todos ORDER BY id";
+    private static final String MANAGER_SQL = "SELECT todo_id, id, user_id FROM managers ORDER BY todo_id, id";
+    private static final String COMMENT_SQL =
+            "SELECT todo_id, id, user_id, contents, created_at FROM comments ORDER BY todo_id, id";
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+    private static final Object INTERCEPTOR_KEY = TodoExportService.class.getName() + ".PERMIT";
+
+    private static final int PERMIT_ACQUIRED = 0;
+    private static final int PERMIT_STREAMING = 1;
+    private static final int PERMIT_RELEASED = 2;
+
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+    private final int netWriteTimeoutSeconds;
+    // 내보내기 하나가 커넥션 3개를 오래 점유하므로 동시 실행 수 제한
+    private final Semaphore permits;
+
+    public TodoExportService(
+            DataSource dataSource,
+            ObjectMapper objectMapper,
+            @Value("${todo.export.fetch-size:1000}") int fetchSize,
+            @Value("${todo.export.net-write-timeout-seconds:3600}") int netWriteTimeoutSeconds,
+            @Value("${todo.export.max-concurrent:2}") int maxConcurrent
+    ) {
+        this.dataSource = dataSource;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+        this.netWriteTimeoutSeconds = netWriteTimeoutSeconds;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * 허가를 먼저 얻어 초과 요청은 스트리밍 시작 전에 503 으로 거절한다.
+     * 허가는 본문 작성이 끝날 때 반환하고, 타임아웃, 연결 끊김 등으로 본문 작성이 시작되지 못한 채
+     * 요청이 끝나면 async 완료 콜백에서 반환한다. (작성 중인 본문은 커넥션을 계속 점유하므로 끝날 때까지 반환하지 않음)
+     */
+    public StreamingResponseBody exportTodos(boolean gzip, WebAsyncManager asyncManager) {
+        if (!permits.tryAcquire()) {
+            throw new ServiceUnavailableException("진행 중인 내보내기 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        AtomicInteger permitState = new AtomicInteger(PERMIT_ACQUIRED);
+        asyncManager.registerCallableInterceptor(INTERCEPTOR_KEY, new CallableProcessingInterceptor() {
+            @Override
+            public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+                if (permitState.compareAndSet(PERMIT_ACQUIRED, PERMIT_RELEASED)) {
+                    permits.release();
+                }
+            }
+        });
+        return outputStream -> {
+            if (!permitState.compareAndSet(PERMIT_ACQUIRED, PERMIT_STREAMING)) {
+                return;
+            }
+            try {
+                if (gzip) {
+                    GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream, GZIP_BUFFER_SIZE);
+                    write(gzipOutputStream);
+                    gzipOutputStream.finish();
+                } else {
+                    write(outputStream);
+                }
+            } finally {
+                permitState.set(PERMIT_RELEASED);
+                permits.release();
+            }
+        };
+    }
+
+    private void write(OutputStream outputStream) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        long count = 0;
+        try (RowCursor todos = new RowCursor(TODO_SQL);
+             RowCursor managers = new RowCursor(MANAGER_SQL);
+             RowCursor comments = new RowCursor(COMMENT_SQL);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            for (; todos.hasRow(); todos.next()) {
+                writeTodo(generator, todos, managers, comments);
+                generator.writeRaw('\n');
+                count++;
+            }
+            generator.flush();
+        } catch (SQLException e) {
+            log.error("Todo export failed - written: {}", count, e);
+            throw new ServerException("일정 내보내기 중 오류가 발생했습니다.");
+        }
+        log.info("Todo export finished - count: {}, elapsed: {}ms", count, System.currentTimeMillis() - startedAt);
+    }
+
+    private void writeTodo(JsonGenerator generator, RowCursor todos, RowCursor managers, RowCursor comments)
+            throws SQLException, IOException {
+        ResultSet todo = todos.resultSet;
+        long todoId = todo.getLong("id");
+
+        generator.writeStartObject();
+        generator.writeNumberField("id", todoId);
+        generator.writeStringField("title", todo.getString("title"));
+        generator.writeStringField("contents", todo.getString("contents"));
+        generator.writeStringField("weather", todo.getString("weather"));
+        generator.writeNumberField("userId", todo.getLong("user_id"));
+        generator.writeNumberField("managerCount", todo.getLong("manager_count"));
+        generator.writeNumberField("commentCount", todo.getLong("comment_count"));
+        writeTimestamp(generator, "createdAt", todo.getTimestamp("created_at"));
+        writeTimestamp(generator, "modifiedAt", todo.getTimestamp("modified_at"));
+
+        generator.writeArrayFieldStart("managers");
+        for (managers.skipTo(todoId); managers.isAt(todoId); managers.next()) {
+            ResultSet manager = managers.resultSet;
+            generator.writeStartObject();
+            generator.writeNumberField("id", manager.getLong("id"));
+            generator.writeNumberField("userId", manager.getLong("user_id"));
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart("comments");
+        for (comments.skipTo(todoId); comments.isAt(todoId); comments.next()) {
+            ResultSet comment = comments.resultSet;
+            generator.writeStartObject();
+            generator.writeNumberField("id", comment.getLong("id"));
+            generator.writeNumberField("userId", comment.getLong("user_id"));
+            generator.writeStringField("contents", comment.getString("contents"));
+            writeTimestamp(generator, "createdAt", comment.getTimestamp("created_at"));
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+
+        generator.writeEndObject();
+    }
+
+    private static void writeTimestamp(JsonGenerator generator, String fieldName, Timestamp timestamp) throws IOException {
+        if (timestamp == null) {
+            generator.writeNullField(fieldName);
+        } else {
+            generator.writeStringField(fieldName, timestamp.toLocalDateTime().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        }
+    }
+
+    /**
+     * 첫 번째 컬럼(todo id) 기준으로 정렬된 결과를 한 행씩 읽는 cursor.
+     */
+    private final class RowCursor implements AutoCloseable {
+
+        private final Connection connection;
+        private final Statement statement;
+        private final ResultSet resultSet;
+        private boolean hasRow;
+        // 풀 커넥션의 세션 변수는 반환 시 초기화되지 않으므로 원래 값을 기억했다가 close 에서 되돌림
+        private Integer originalNetWriteTimeout;
+
+        private RowCursor(String sql) throws SQLException {
+            connection = dataSource.getConnection();
+            try {
+                connection.setReadOnly(true);
+                // PostgreSQL 등은 트랜잭션 안에서만 fetchSize 단위로 나눠 읽음
+                connection.setAutoCommit(false);
+                boolean mysql = "MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+                if (mysql) {
+                    // 클라이언트가 느리게 받아도 서버가 결과 전송 도중 연결을 끊지 않도록 설정
+                    try (Statement session = connection.createStatement()) {
+                        try (ResultSet current = session.executeQuery("SELECT @@SESSION.net_write_timeout")) {
+                            current.next();
+                            originalNetWriteTimeout = current.getInt(1);
+                        }
+                        session.execute("SET SESSION net_write_timeout = " + netWriteTimeoutSeconds);
+                    }
+                }
+                statement = connection.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                // MySQL Connector/J 는 fetchSize 가 Integer.MIN_VALUE 일 때만 행 단위 스트리밍 (그 외에는 결과 전체를 메모리에 적재)
+                statement.setFetchSize(mysql ? Integer.MIN_VALUE : fetchSize);
+                resultSet = statement.executeQuery(sql);
+                hasRow = resultSet.next();
+            } catch (SQLException e) {
+                restoreSession();
+                connection.close();
+                throw e;
+            }
+        }
+
+        private boolean hasRow() {
+            return hasRow;
+        }
+
+        private void next() throws SQLException {
+            hasRow = resultSet.next();
+        }
+
+        // 내보내는 도중 추가된 행 등 앞선 todo id 의 행은 건너뜀
+        private void skipTo(long todoId) throws SQLException {
+            while (hasRow && resultSet.getLong(1) < todoId) {
+                next();
+            }
+        }
+
+        private boolean isAt(long todoId) throws SQLException {
+            return hasRow && resultSet.getLong(1) == todoId;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                // 중간에 끊긴 경우 남은 행을 끝까지 받지 않도록 쿼리 취소 (MySQL 스트리밍 결과는 close 시 나머지를 모두 읽음)
+                if (hasRow) {
+                    statement.cancel();
+                }
+            } catch (SQLException e) {
+                log.warn("Todo export cursor cancel failed", e);
+            } finally {
+                // 스트리밍 결과가 열려 있으면 같은 커넥션에서 다른 문장을 실행할 수 없으므로 먼저 닫음
+                try {
+                    statement.close();
+                } catch (SQLException e) {
+                    log.warn("Todo export cursor close failed", e);
+                }
+                restoreSession();
+                connection.close();
+            }
+        }
+
+        // 되돌리지 못하면 긴 timeout 이 일반 요청 커넥션에 남지 않도록 커넥션을 풀에서 제거
+        private void restoreSession() {
+            if (originalNetWriteTimeout == null) {
+                return;
+            }
+            try (Statement session = connection.createStatement()) {
+                session.execute("SET SESSION net_write_timeout = " + originalNetWriteTimeout);
+            } catch (SQLException e) {
+                log.warn("Todo export session restore failed - evicting connection", e);
+                evict();
+            }
+        }
+
+        private void evict() {
+            try {
+                if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                    dataSource.unwrap(HikariDataSource.class).evictConnection(connection);
+                }
+            } catch (SQLException e) {
+                log.warn("Todo export connection eviction failed", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.expert.domain.todo.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 일정 단건 조회 결과 2단계 캐시.
+ * 1차: 인스턴스 로컬 Caffeine 캐시 (크기, TTL 기반 제거)
+ * 2차: CacheManager 빈이 등록된 경우에만 사용하는 공유 캐시
+ */
+@Component
+public class TodoResponseCache {
+
+    private static final String CACHE_NAME = "todo";
+
+    private final Cache<Long, TodoResponse> localCache;
+    private final org.springframework.cache.Cache sharedCache;
+
+    public TodoResponseCache(
+            ObjectProvider<CacheManager> cacheManagerProvider,
+            MeterRegistry meterRegistry,
+            @Value("${todo.cache.local.max-size:10000}") long maxSize,
+            @Value("${todo.cache.local.ttl-seconds:60}") long ttlSeconds
+    ) {
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        // hit ratio, eviction, load 시간 등을 actuator metrics 로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, CACHE_NAME);
+
+        CacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+        this.sharedCache = cacheManager != null ? cacheManager.getCache(CACHE_NAME) : null;
+    }
+
+    // 로컬 -> 공유 캐시 -> loader 순서로 조회, loader 예외는 캐시하지 않고 그대로 전파
+    public TodoResponse get(Long todoId, Function<Long, TodoResponse> loader) {
+        return localCache.get(todoId, id -> {
+            if (sharedCache != null) {
+                TodoResponse shared = sharedCache.get(id, TodoResponse.class);
+                if (shared != null) {
+                    return shared;
+                }
+            }
+
+            TodoResponse loaded = loader.apply(id);
+            if (sharedCache != null) {
+                sharedCache.put(id, loaded);
+            }
+            return loaded;
+        });
+    }
+
+    // 일정 또는 작성자 정보(email)가 변경되는 경로에서 호출
+    public void evict(Long todoId) {
+        localCache.invalidate(todoId);
+        if (sharedCache != null) {
+            sharedCache.evict(todoId);
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package org.example.expert.domain.todo.service;
 
 import lombok.RequiredArgsConstructor;
-import org.example.expert.client.WeatherClient;
+import org.example.expert.client.WeatherCache;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
@@ -15,6 +17,7 @@ import org.example.expert.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,17 +28,21 @@ import java.time.LocalDateTime;
 //@Transactional(readOnly = true)  // 전역 설정 주석처리
 public class TodoService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final TodoRepository todoRepository;
-    private final WeatherClient weatherClient;
+    private final WeatherCache weatherCache;
+    private final TodoResponseCache todoResponseCache;
 
     /**
      * 데이터의 추가, 변경, 삭제 매서드에 @Transactional 작성
+     * 단, 날씨 조회(외부 API)가 DB 커넥션을 점유한 채 실행되지 않도록 saveTodo 는 트랜잭션 밖에서 날씨를 먼저 조회하고
+     * todoRepository.save 의 트랜잭션 안에서 todo, manager 를 함께 저장한다.
      */
-    @Transactional
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
         User user = User.fromAuthUser(authUser);
 
-        String weather = weatherClient.getTodayWeather();
+        String weather = weatherCache.getTodayWeather();
 
         Todo newTodo = new Todo(
                 todoSaveRequest.getTitle(),
@@ -64,8 +71,30 @@ public class TodoService {
         return todoRepository.findTodosByWeatherAndModifiedAtWithPages(weather, startTime, endTime, pageable);
     }
 
-    @Transactional(readOnly = true) // 조회는 readOnry = true 설정
+    // 전체 개수가 필요 없는 경우 count 쿼리 없이 다음 페이지 존재 여부만 반환
+    @Transactional(readOnly = true)
+    public Slice<TodoResponse> getTodosWithoutTotal(int page, int size, String weather, LocalDateTime startTime, LocalDateTime endTime) {
+        Pageable pageable = PageRequest.of(page - 1, size);
+
+        return todoRepository.findTodosByWeatherAndModifiedAtWithSlice(weather, startTime, endTime, pageable);
+    }
+
+    // offset 스캔 없이 (modifiedAt, id) 커서 기준으로 다음 페이지 조회
+    @Transactional(readOnly = true)
+    public CursorResponse<TodoResponse> getTodosByCursor(
+            String cursor, int size, String weather, LocalDateTime startTime, LocalDateTime endTime
+    ) {
+        return todoRepository.findTodosByWeatherAndModifiedAtWithCursor(
+                weather, startTime, endTime, decodeCursor(cursor), validateCursorSize(size)
+        );
+    }
+
+    // 캐시 hit 시 DB 커넥션을 사용하지 않도록 트랜잭션 없이 캐시부터 조회
     public TodoResponse getTodo(long todoId) {
+        return todoResponseCache.get(todoId, this::loadTodo);
+    }
+
+    private TodoResponse loadTodo(long todoId) {
 //        Todo todo = todoRepository.findByIdWithUser(todoId)
 //                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
         // QueryDSL 로 변경
@@ -95,4 +124,43 @@ public class TodoService {
                 keywordTitle, startTime, endTime, keywordNickname, convertPageable
         );
     }
+
+    // 전체 개수가 필요 없는 경우 count 쿼리 없이 다음 페이지 존재 여부만 반환
+    @Transactional(readOnly = true)
+    public Slice<TodoSearchResponse> searchTodosWithoutTotal(
+            String keywordTitle, LocalDateTime startTime, LocalDateTime endTime, String keywordNickname,
+            Pageable pageable
+    ) {
+        Pageable convertPageable = PageRequest.of(pageable.getPageNumber() - 1, pageable.getPageSize());
+
+        return todoRepository.searchTodosByTitleAndCreatedAtAndManagersWithSlice(
+                keywordTitle, startTime, endTime, keywordNickname, convertPageable
+        );
+    }
+
+    // offset 스캔 없이 (createdAt, id) 커서 기준으로 다음 페이지 조회
+    @Transactional(readOnly = true)
+    public CursorResponse<TodoSearchResponse> searchTodosByCursor(
+            String keywordTitle, LocalDateTime startTime, LocalDateTime endTime, String keywordNickname,
+            String cursor, int size
+    ) {
+        return todoRepository.searchTodosByTitleAndCreatedAtAndManagersWithCursor(
+                keywordTitle, startTime, endTime, keywordNickname, decodeCursor(cursor), validateCursorSize(size)
+        );
+    }
+
+    private static int validateCursorSize(int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new InvalidRequestException("조회 개수는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        return size;
+    }
+
+    private static Cursor decodeCursor(String encoded) {
+        Cursor cursor = Cursor.decode(encoded);
+        if (cursor != null && cursor.getTime() == null) {
+            throw new InvalidRequestException("유효하지 않은 커서입니다.");
+        }
+        return cursor;
+    }
 }
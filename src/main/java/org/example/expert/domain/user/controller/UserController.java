@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
+import org.example.expert.domain.user.dto.response.UserAutocompleteResponse;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.dto.response.UserSearchResponse;
 import org.example.expert.domain.user.service.UserService;
@@ -39,4 +40,12 @@ public class UserController {
     ){
         return ResponseEntity.ok(userService.searchUser(nickname));
     }
+
+    @GetMapping("/users/autocomplete")
+    public ResponseEntity<UserAutocompleteResponse> autocomplete(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int size
+    ){
+        return ResponseEntity.ok(userService.autocomplete(prefix, size));
+    }
 }
@@ -0,0 +1,15 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class UserAutocompleteResponse {
+
+    private final List<String> nicknames;
+
+    public UserAutocompleteResponse(List<String> nicknames) {
+        this.nicknames = nicknames;
+    }
+}
@@ -2,8 +2,10 @@ package org.example.expert.domain.user.repository;
 
 import org.example.expert.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -17,4 +19,14 @@ public interface UserRepository extends JpaRepository<User, Long> , UserReposito
 
     @Query(value = "select u.nickname from User u where u.nickname = :nickname")
     List<String> findByNicknameJPQL(@Param("nickname") String nickname);
+
+    // 로그인 시 재해시한 비밀번호를 짧은 UPDATE 한 번으로 저장 (그 사이 비밀번호가 변경되었으면 덮어쓰지 않음)
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :userId AND u.password = :oldPassword")
+    int updatePasswordIfUnchanged(
+            @Param("userId") Long userId,
+            @Param("oldPassword") String oldPassword,
+            @Param("newPassword") String newPassword
+    );
 }
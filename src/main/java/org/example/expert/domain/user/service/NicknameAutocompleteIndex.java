@@ -0,0 +1,307 @@
+package org.example.expert.domain.user.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 닉네임 접두사 자동완성 색인.
+ * 전체 닉네임은 정렬된 배열(String[])에 두고 이진 탐색으로 접두사 시작 위치를 찾는다.
+ * 가입, 닉네임 변경분은 정렬된 변경 목록(ConcurrentSkipListMap)에 쌓아 두 정렬 목록을 병합하여 조회하며,
+ * 변경 목록이 일정 크기를 넘으면 백그라운드 스레드에서 배열로 합친다. 한글은 음절(가~힣) 단위 접두사로 검색된다.
+ * 다른 인스턴스의 가입, 닉네임 변경은 주기적인 재생성 시점에 반영된다.
+ */
+@Slf4j
+@Component
+public class NicknameAutocompleteIndex implements ApplicationRunner {
+
+    private static final int LOAD_BATCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int compactionThreshold;
+    private final ExecutorService compactionExecutor;
+    private final AtomicBoolean compacting = new AtomicBoolean();
+
+    // 상태 교체(재생성, 병합)와 변경 반영 사이의 순서만 맞추며 DB 조회, 배열 병합 중에는 잡지 않음
+    // (가상 스레드에서 carrier 스레드가 고정되지 않도록 synchronized 대신 사용)
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // 조회 스레드는 하나의 State 만 보므로 배열과 변경 목록이 항상 같은 시점의 값
+    private volatile State state = new State(new String[0], new ConcurrentSkipListMap<>());
+    // 재생성 중 반영된 변경. 재생성 조회 이후 커밋된 변경을 놓치지 않도록 새 State 의 변경 목록으로 이어 받음
+    private ConcurrentSkipListMap<String, Boolean> rebuildingChanges;
+
+    public NicknameAutocompleteIndex(
+            JdbcTemplate jdbcTemplate,
+            @Value("${user.autocomplete.compaction-threshold:10000}") int compactionThreshold
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.compactionThreshold = compactionThreshold;
+        this.compactionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "nickname-autocomplete-compaction");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        rebuild();
+    }
+
+    public List<String> autocomplete(String prefix, int limit) {
+        State current = state;
+        String[] nicknames = current.nicknames;
+        Iterator<Map.Entry<String, Boolean>> changes = current.changes.tailMap(prefix, true).entrySet().iterator();
+
+        List<String> result = new ArrayList<>(limit);
+        int index = lowerBound(nicknames, prefix);
+        Map.Entry<String, Boolean> change = next(changes, prefix);
+        while (result.size() < limit) {
+            String nickname = index < nicknames.length && nicknames[index].startsWith(prefix) ? nicknames[index] : null;
+            if (nickname == null && change == null) {
+                break;
+            }
+
+            int compare = nickname == null ? 1 : change == null ? -1 : nickname.compareTo(change.getKey());
+            if (compare < 0) {
+                result.add(nickname);
+                index++;
+            } else {
+                // 변경 목록이 우선 (true: 추가, false: 삭제)
+                if (change.getValue()) {
+                    result.add(change.getKey());
+                }
+                if (compare == 0) {
+                    index++;
+                }
+                change = next(changes, prefix);
+            }
+        }
+        return result;
+    }
+
+    // 롤백된 변경이 자동완성에 남지 않도록 트랜잭션 커밋 후 반영
+    public void add(String nickname) {
+        afterCommit(() -> apply(null, nickname));
+    }
+
+    public void change(String oldNickname, String newNickname) {
+        afterCommit(() -> apply(oldNickname, newNickname));
+    }
+
+    // id 구간 단위로 전체 닉네임을 읽어 정렬된 배열 생성 (DB collation 과 무관하게 String 순서로 정렬)
+    @Scheduled(cron = "${user.autocomplete.rebuild-cron:0 0 * * * *}")
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            ConcurrentSkipListMap<String, Boolean> changesDuringRebuild = new ConcurrentSkipListMap<>();
+            lock.lock();
+            try {
+                rebuildingChanges = changesDuringRebuild;
+            } finally {
+                lock.unlock();
+            }
+
+            String[] nicknames;
+            try {
+                nicknames = load();
+            } catch (RuntimeException e) {
+                lock.lock();
+                try {
+                    rebuildingChanges = null;
+                } finally {
+                    lock.unlock();
+                }
+                throw e;
+            }
+
+            lock.lock();
+            try {
+                rebuildingChanges = null;
+                state = new State(nicknames, changesDuringRebuild);
+            } finally {
+                lock.unlock();
+            }
+            log.info("Nickname autocomplete index rebuilt - nicknames: {}", nicknames.length);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        compactionExecutor.shutdownNow();
+    }
+
+    private String[] load() {
+        List<String> loaded = new ArrayList<>();
+        long lastId = 0;
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                    "SELECT id, nickname FROM users WHERE id > ? ORDER BY id LIMIT ?", lastId, LOAD_BATCH_SIZE
+            );
+            for (Map<String, Object> row : rows) {
+                String nickname = (String) row.get("nickname");
+                if (nickname != null) {
+                    loaded.add(nickname);
+                }
+                lastId = ((Number) row.get("id")).longValue();
+            }
+            if (rows.size() < LOAD_BATCH_SIZE) {
+                break;
+            }
+        }
+
+        String[] nicknames = loaded.toArray(new String[0]);
+        Arrays.sort(nicknames);
+        return nicknames;
+    }
+
+    // 커밋한 요청 스레드는 변경 목록에 넣기만 하고, 배열 병합은 백그라운드 스레드에 맡김
+    private void apply(String oldNickname, String newNickname) {
+        int pending;
+        lock.lock();
+        try {
+            put(oldNickname, newNickname, state.changes);
+            if (rebuildingChanges != null) {
+                put(oldNickname, newNickname, rebuildingChanges);
+            }
+            pending = state.changes.size();
+        } finally {
+            lock.unlock();
+        }
+
+        if (pending >= compactionThreshold && compacting.compareAndSet(false, true)) {
+            compactionExecutor.execute(() -> {
+                try {
+                    compact();
+                } catch (RuntimeException e) {
+                    log.warn("Nickname autocomplete compaction failed", e);
+                } finally {
+                    compacting.set(false);
+                }
+            });
+        }
+    }
+
+    private static void put(String oldNickname, String newNickname, Map<String, Boolean> changes) {
+        if (oldNickname != null && !oldNickname.equals(newNickname)) {
+            changes.put(oldNickname, false);
+        }
+        if (newNickname != null) {
+            changes.put(newNickname, true);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 변경 목록이 커지면 조회 시 병합 비용이 늘어나므로 배열에 합침
+    // 복사해 둔 변경 목록으로 병합한 뒤, 그 사이 새로 들어오거나 값이 바뀐 변경만 새 State 에 남김
+    void compact() {
+        State snapshot = state;
+        Map<String, Boolean> copied = new TreeMap<>(snapshot.changes);
+        String[] merged = merge(snapshot.nicknames, copied);
+
+        lock.lock();
+        try {
+            if (state != snapshot) {
+                // 병합 중 재생성되었으면 버림
+                return;
+            }
+            ConcurrentSkipListMap<String, Boolean> remaining = new ConcurrentSkipListMap<>();
+            for (Map.Entry<String, Boolean> change : snapshot.changes.entrySet()) {
+                if (!change.getValue().equals(copied.get(change.getKey()))) {
+                    remaining.put(change.getKey(), change.getValue());
+                }
+            }
+            state = new State(merged, remaining);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static String[] merge(String[] nicknames, Map<String, Boolean> changes) {
+        List<String> merged = new ArrayList<>(nicknames.length + changes.size());
+        Iterator<Map.Entry<String, Boolean>> iterator = changes.entrySet().iterator();
+        Map.Entry<String, Boolean> change = iterator.hasNext() ? iterator.next() : null;
+        for (String nickname : nicknames) {
+            while (change != null && change.getKey().compareTo(nickname) < 0) {
+                if (change.getValue()) {
+                    merged.add(change.getKey());
+                }
+                change = iterator.hasNext() ? iterator.next() : null;
+            }
+            if (change != null && change.getKey().equals(nickname)) {
+                if (change.getValue()) {
+                    merged.add(nickname);
+                }
+                change = iterator.hasNext() ? iterator.next() : null;
+            } else {
+                merged.add(nickname);
+            }
+        }
+        while (change != null) {
+            if (change.getValue()) {
+                merged.add(change.getKey());
+            }
+            change = iterator.hasNext() ? iterator.next() : null;
+        }
+        return merged.toArray(new String[0]);
+    }
+
+    private static int lowerBound(String[] nicknames, String prefix) {
+        int index = Arrays.binarySearch(nicknames, prefix);
+        return index >= 0 ? index : -(index + 1);
+    }
+
+    private static Map.Entry<String, Boolean> next(Iterator<Map.Entry<String, Boolean>> changes, String prefix) {
+        if (!changes.hasNext()) {
+            return null;
+        }
+        Map.Entry<String, Boolean> change = changes.next();
+        return change.getKey().startsWith(prefix) ? change : null;
+    }
+
+    private static class State {
+
+        private final String[] nicknames;
+        private final ConcurrentSkipListMap<String, Boolean> changes;
+
+        private State(String[] nicknames, ConcurrentSkipListMap<String, Boolean> changes) {
+            this.nicknames = nicknames;
+            this.changes = changes;
+        }
+    }
+}
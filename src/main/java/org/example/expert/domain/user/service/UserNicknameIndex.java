@@ -0,0 +1,150 @@
+package org.example.expert.domain.user.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * 닉네임 검색 앞단의 Bloom filter 색인.
+ * 없는 닉네임 검색은 DB 조회 없이 바로 응답하고, 있을 수도 있는 경우에만 DB 를 조회한다.
+ * 기동 시 users 테이블 전체로 만들고 signup, updateNickname 에서 추가한다.
+ * 변경 전 닉네임은 지울 수 없지만 오판(DB 조회)만 늘어날 뿐이므로, 주기적으로 새로 만들어 정리한다.
+ * 다른 인스턴스에서 추가된 닉네임은 재생성 전까지 알 수 없으므로, 단일 인스턴스로 실행할 때만 사용한다.
+ * (user.nickname-index.single-instance=true, 그 외에는 항상 DB 를 조회)
+ * DB 컬럼 collation(utf8mb4_0900_ai_ci)이 대소문자, 악센트를 구분하지 않으므로 같은 기준으로 정규화한 값을 넣고 조회한다.
+ */
+@Slf4j
+@Component
+public class UserNicknameIndex implements ApplicationRunner {
+
+    private static final int LOAD_BATCH_SIZE = 10_000;
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final long minExpectedInsertions;
+    private final double falsePositiveRate;
+    // 가상 스레드에서 JDBC 조회 중 carrier 스레드가 고정되지 않도록 synchronized 대신 사용
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile NicknameBloomFilter filter;
+    // 재생성 중 추가된 닉네임은 새 filter 에도 기록
+    private volatile NicknameBloomFilter building;
+    // 재생성 시작 전 추가되었지만 아직 커밋되지 않아 재생성 조회에서 빠진 닉네임을 놓치지 않도록 한 주기 동안 유지
+    private volatile NicknameBloomFilter previous;
+
+    public UserNicknameIndex(
+            JdbcTemplate jdbcTemplate,
+            @Value("${user.nickname-index.enabled:true}") boolean enabled,
+            @Value("${user.nickname-index.single-instance:false}") boolean singleInstance,
+            @Value("${user.nickname-index.expected-insertions:1000000}") long minExpectedInsertions,
+            @Value("${user.nickname-index.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 여러 인스턴스에서는 다른 인스턴스의 가입, 닉네임 변경을 놓쳐 없는 닉네임으로 잘못 응답하므로 사용하지 않음
+        this.enabled = enabled && singleInstance;
+        this.minExpectedInsertions = minExpectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    // 색인이 아직 없으면 DB 조회가 필요하다고 판단
+    public boolean mightExist(String nickname) {
+        NicknameBloomFilter current = filter;
+        if (current == null || nickname == null) {
+            return true;
+        }
+        String key = normalize(nickname);
+        if (current.mightContain(key)) {
+            return true;
+        }
+        NicknameBloomFilter before = previous;
+        return before != null && before.mightContain(key);
+    }
+
+    // 트랜잭션이 롤백되어도 오판만 생기므로 커밋 전에 추가
+    public void add(String nickname) {
+        if (nickname == null) {
+            return;
+        }
+        String key = normalize(nickname);
+        NicknameBloomFilter current = filter;
+        if (current != null) {
+            current.put(key);
+        }
+        NicknameBloomFilter next = building;
+        if (next != null) {
+            next.put(key);
+        }
+    }
+
+    @Scheduled(cron = "${user.nickname-index.rebuild-cron:0 0 * * * *}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        rebuildLock.lock();
+        try {
+            load();
+        } finally {
+            building = null;
+            rebuildLock.unlock();
+        }
+    }
+
+    // 대소문자, 악센트, 전각/반각 차이를 없앤 값 (collation 이 같다고 보는 닉네임은 같은 키가 되도록)
+    static String normalize(String nickname) {
+        String decomposed = Normalizer.normalize(nickname, Normalizer.Form.NFKD);
+        String stripped = COMBINING_MARKS.matcher(decomposed).replaceAll("");
+        return Normalizer.normalize(stripped, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    private void load() {
+        Long userCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+        // 재생성 전까지 가입이 늘어도 오판율이 유지되도록 여유를 둠
+        long expectedInsertions = Math.max(minExpectedInsertions, (userCount == null ? 0 : userCount) * 2);
+        NicknameBloomFilter next = new NicknameBloomFilter(expectedInsertions, falsePositiveRate);
+        building = next;
+
+        // id 구간 단위로 나누어 읽어 한 번에 전체 닉네임을 메모리에 올리지 않음
+        long lastId = 0;
+        long loaded = 0;
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                    "SELECT id, nickname FROM users WHERE id > ? ORDER BY id LIMIT ?", lastId, LOAD_BATCH_SIZE
+            );
+            for (Map<String, Object> row : rows) {
+                String nickname = (String) row.get("nickname");
+                if (nickname != null) {
+                    next.put(normalize(nickname));
+                }
+                lastId = ((Number) row.get("id")).longValue();
+            }
+            loaded += rows.size();
+            if (rows.size() < LOAD_BATCH_SIZE) {
+                break;
+            }
+        }
+
+        previous = filter;
+        filter = next;
+        log.info("User nickname index rebuilt - users: {}, expected insertions: {}", loaded, expectedInsertions);
+    }
+}
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.example.expert.config.PasswordEncoder;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
+import org.example.expert.domain.user.dto.response.UserAutocompleteResponse;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.dto.response.UserSearchResponse;
 import org.example.expert.domain.user.entity.User;
@@ -16,8 +17,12 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class UserService {
 
+    private static final int MAX_AUTOCOMPLETE_SIZE = 50;
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserNicknameIndex userNicknameIndex;
+    private final NicknameAutocompleteIndex nicknameAutocompleteIndex;
 
     public UserResponse getUser(long userId) {
         User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
@@ -31,14 +36,15 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new InvalidRequestException("User not found"));
 
-        if (passwordEncoder.matches(userChangePasswordRequest.getNewPassword(), user.getPassword())) {
-            throw new InvalidRequestException("새 비밀번호는 기존 비밀번호와 같을 수 없습니다.");
-        }
-
         if (!passwordEncoder.matches(userChangePasswordRequest.getOldPassword(), user.getPassword())) {
             throw new InvalidRequestException("잘못된 비밀번호입니다.");
         }
 
+        // 기존 비밀번호가 검증되었으므로 BCrypt 를 다시 돌리지 않고 평문 비교
+        if (userChangePasswordRequest.getNewPassword().equals(userChangePasswordRequest.getOldPassword())) {
+            throw new InvalidRequestException("새 비밀번호는 기존 비밀번호와 같을 수 없습니다.");
+        }
+
         user.changePassword(passwordEncoder.encode(userChangePasswordRequest.getNewPassword()));
     }
 
@@ -48,7 +54,10 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new InvalidRequestException("User not found"));
 
+        String oldNickname = user.getNickname();
         user.updateNickname(nickname);
+        userNicknameIndex.add(nickname);
+        nicknameAutocompleteIndex.change(oldNickname, nickname);
     }
 
     private static void validateNewPassword(UserChangePasswordRequest userChangePasswordRequest) {
@@ -60,6 +69,21 @@ public class UserService {
     }
 
     public UserSearchResponse searchUser(String nickname) {
+        // 확실히 없는 닉네임은 DB 조회 없이 응답
+        if (!userNicknameIndex.mightExist(nickname)) {
+            return null;
+        }
         return userRepository.findNicknameByNickname(nickname);
     }
+
+    // DB 조회 없이 메모리 색인에서 접두사가 일치하는 닉네임을 사전순으로 최대 size 개 조회
+    public UserAutocompleteResponse autocomplete(String prefix, int size) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new InvalidRequestException("검색어를 입력해주세요.");
+        }
+        if (size < 1 || size > MAX_AUTOCOMPLETE_SIZE) {
+            throw new InvalidRequestException("조회 개수는 1 이상 " + MAX_AUTOCOMPLETE_SIZE + " 이하여야 합니다.");
+        }
+        return new UserAutocompleteResponse(nicknameAutocompleteIndex.autocomplete(prefix, size));
+    }
 }
@@ -0,0 +1,225 @@
+package org.example.expert.seed;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.IdGeneratorInitializer;
+import org.example.expert.config.PasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 부하 테스트용 대량 데이터 생성기 (spring.profiles.active=seed 로 실행, ./gradlew seed).
+ * JPA 대신 JDBC batch insert 로 users, todos, managers, comments 를 채운다.
+ * id 구간(chunk)별로 Random 시드를 고정하고 시각은 seed.base-time 기준으로 만들므로,
+ * 같은 seed.random-seed 면 실행 시점, 스레드 수와 무관하게 같은 데이터(id 포함)가 생성된다.
+ * (managers, comments 의 id 는 일정마다 최대 개수만큼 구간을 예약하여 할당하므로 중간에 빈 id 가 있음)
+ * 웹 서버 없이 실행되며, 생성이 끝나면 컨텍스트를 닫아 프로세스가 종료된다.
+ */
+@Slf4j
+@Component
+@Profile("seed")
+public class DataSeeder implements CommandLineRunner {
+
+    private static final String[] FIRST_NAMES = {"김", "이", "최", "박", "석", "신", "전", "조", "정", "원"};
+    private static final String[] MIDDLE_NAMES = {"규", "민", "승", "연", "기", "한", "정", "영", "용", "의"};
+    private static final String[] LAST_NAMES = {"정", "홍", "걸", "환", "빈", "준", "용", "진", "은", "지", ""};
+    private static final String[] WEATHERS = {"Sunny", "Cloudy", "Rainy", "Snowy", "Windy"};
+    private static final String[] TITLE_WORDS = {"회의", "보고서", "리뷰", "배포", "점검", "기획", "정리", "미팅", "Task", "Plan"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final IdGeneratorInitializer idGeneratorInitializer;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${seed.users:1000000}")
+    private int userCount;
+    @Value("${seed.todos:10000000}")
+    private int todoCount;
+    @Value("${seed.max-managers-per-todo:3}")
+    private int maxManagersPerTodo;
+    @Value("${seed.max-comments-per-todo:20}")
+    private int maxCommentsPerTodo;
+    @Value("${seed.random-seed:42}")
+    private long randomSeed;
+    // 생성되는 모든 시각의 기준 (실행 시점과 무관하게 같은 데이터를 만들기 위해 고정)
+    @Value("${seed.base-time:2024-01-01T00:00:00}")
+    private String baseTime;
+    @Value("${seed.batch-size:5000}")
+    private int batchSize;
+    @Value("${seed.chunk-size:100000}")
+    private int chunkSize;
+    @Value("${seed.threads:0}")
+    private int threads;
+
+    public DataSeeder(
+            JdbcTemplate jdbcTemplate,
+            PasswordEncoder passwordEncoder,
+            IdGeneratorInitializer idGeneratorInitializer,
+            ConfigurableApplicationContext context
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.idGeneratorInitializer = idGeneratorInitializer;
+        this.context = context;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ExecutorService executor = Executors.newFixedThreadPool(poolSize);
+        try {
+            // 이미 데이터가 있으면 그 뒤에 이어서 생성
+            long userOffset = maxId("users");
+            long todoOffset = maxId("todos");
+            long managerOffset = maxId("managers");
+            long commentOffset = maxId("comments");
+            // 비밀번호 해시는 모든 유저가 공유 (유저마다 BCrypt 를 돌리면 생성 시간이 해시에 좌우됨)
+            String password = passwordEncoder.encode("Password1234");
+            LocalDateTime baseTime = LocalDateTime.parse(this.baseTime);
+
+            long start = System.currentTimeMillis();
+            runChunks(executor, userCount, (from, to, random) -> insertUsers(userOffset, from, to, random, password, baseTime));
+            log.info("users seeded - count: {}, elapsed: {}ms", userCount, System.currentTimeMillis() - start);
+
+            start = System.currentTimeMillis();
+            runChunks(executor, todoCount, (from, to, random) ->
+                    insertTodos(userOffset, todoOffset, managerOffset, commentOffset, from, to, random, baseTime));
+            log.info("todos, managers, comments seeded - todos: {}, elapsed: {}ms", todoCount, System.currentTimeMillis() - start);
+
+            // id 를 직접 넣었으므로 JPA id 생성기의 다음 값을 그 뒤로 맞춤
+            idGeneratorInitializer.synchronize();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    // 생성 완료 후 컨텍스트를 닫아 스케줄러, 스레드 풀을 정리하고 프로세스가 정상 종료되도록 함 (실패 시에는 SpringApplication 이 닫음)
+    @EventListener(ApplicationReadyEvent.class)
+    public void close() {
+        context.close();
+    }
+
+    private void runChunks(ExecutorService executor, int total, ChunkTask task) throws Exception {
+        List<Future<?>> futures = new ArrayList<>();
+        for (int from = 0; from < total; from += chunkSize) {
+            int chunkFrom = from;
+            int chunkTo = Math.min(from + chunkSize, total);
+            // chunk 시작 위치로 시드를 고정하여 실행 순서와 무관하게 결정적인 데이터 생성
+            Random random = new Random(randomSeed * 31 + chunkFrom);
+            futures.add(executor.submit(() -> {
+                task.run(chunkFrom, chunkTo, random);
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    private void insertUsers(long userOffset, int from, int to, Random random, String password, LocalDateTime baseTime) {
+        List<Object[]> users = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            long id = userOffset + i + 1;
+            // 닉네임 중복 방지를 위해 id 를 접미사로 사용
+            String nickname = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]
+                    + MIDDLE_NAMES[random.nextInt(MIDDLE_NAMES.length)]
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)]
+                    + id;
+            Timestamp createdAt = Timestamp.valueOf(baseTime.plusSeconds(random.nextInt(365 * 24 * 60 * 60)));
+            users.add(new Object[]{id, "user" + id + "@example.com", password, "ROLE_USER", nickname, createdAt, createdAt});
+        }
+        batchInsert("INSERT INTO users (id, email, password, user_role, nickname, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?)", users);
+    }
+
+    private void insertTodos(
+            long userOffset, long todoOffset, long managerOffset, long commentOffset,
+            int from, int to, Random random, LocalDateTime baseTime
+    ) {
+        List<Object[]> todos = new ArrayList<>(to - from);
+        List<Object[]> managers = new ArrayList<>();
+        List<Object[]> comments = new ArrayList<>();
+
+        for (int i = from; i < to; i++) {
+            long todoId = todoOffset + i + 1;
+            long ownerId = skewedUserId(userOffset, random);
+            Timestamp createdAt = Timestamp.valueOf(baseTime.plusSeconds(random.nextInt(365 * 24 * 60 * 60)));
+            Timestamp modifiedAt = Timestamp.valueOf(createdAt.toLocalDateTime().plusMinutes(random.nextInt(60 * 24)));
+            String title = TITLE_WORDS[random.nextInt(TITLE_WORDS.length)] + " " + TITLE_WORDS[random.nextInt(TITLE_WORDS.length)] + " " + todoId;
+
+            // 일정마다 id 구간을 예약하여 chunk 완료 순서와 무관하게 id 결정
+            long managerIdBase = managerOffset + (long) i * (maxManagersPerTodo + 1);
+            long commentIdBase = commentOffset + (long) i * maxCommentsPerTodo;
+
+            // 작성자 본인 + 서로 다른 추가 담당자 (대부분 0~1명, 소수 일정에 몰리도록 편향, 서비스와 같이 중복 없음)
+            managers.add(new Object[]{managerIdBase + 1, ownerId, todoId});
+            int extraManagers = (int) (Math.min(maxManagersPerTodo, userCount - 1) * Math.pow(random.nextDouble(), 3));
+            Set<Long> managerUserIds = new HashSet<>();
+            managerUserIds.add(ownerId);
+            for (int m = 0; m < extraManagers; m++) {
+                long managerUserId;
+                do {
+                    managerUserId = skewedUserId(userOffset, random);
+                } while (!managerUserIds.add(managerUserId));
+                managers.add(new Object[]{managerIdBase + m + 2, managerUserId, todoId});
+            }
+
+            // 댓글 수도 소수 일정에 몰리도록 편향
+            int commentCount = (int) (maxCommentsPerTodo * Math.pow(random.nextDouble(), 4));
+            for (int c = 0; c < commentCount; c++) {
+                Timestamp commentedAt = Timestamp.valueOf(createdAt.toLocalDateTime().plusMinutes(c + 1));
+                comments.add(new Object[]{commentIdBase + c + 1, "댓글 " + (c + 1), skewedUserId(userOffset, random), todoId, commentedAt, commentedAt});
+            }
+
+            todos.add(new Object[]{todoId, title, "contents " + todoId, WEATHERS[random.nextInt(WEATHERS.length)],
+                    ownerId, 1 + extraManagers, commentCount, createdAt, modifiedAt});
+        }
+
+        batchInsert("INSERT INTO todos (id, title, contents, weather, user_id, manager_count, comment_count, created_at, modified_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", todos);
+        batchInsert("INSERT INTO managers (id, user_id, todo_id) VALUES (?, ?, ?)", managers);
+        batchInsert("INSERT INTO comments (id, contents, user_id, todo_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)", comments);
+    }
+
+    // 낮은 id 의 유저에게 일정, 댓글이 몰리도록 편향된 분포 (실서비스의 헤비 유저 분포 재현)
+    private long skewedUserId(long userOffset, Random random) {
+        return userOffset + 1 + (long) (userCount * Math.pow(random.nextDouble(), 3));
+    }
+
+    private long maxId(String table) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return maxId != null ? maxId : 0L;
+    }
+
+    private void batchInsert(String sql, List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(sql, rows, batchSize, DataSeeder::setValues);
+    }
+
+    private static void setValues(PreparedStatement ps, Object[] row) throws SQLException {
+        for (int i = 0; i < row.length; i++) {
+            ps.setObject(i + 1, row[i]);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkTask {
+        void run(int from, int to, Random random);
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.expert.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.Test;
+
+import java.time.MonthDay;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WeatherCacheTest {
+
+    private final WeatherClient weatherClient = mock(WeatherClient.class);
+
+    // TTL 0분: 항상 만료 상태, backoff 1분
+    private final WeatherCache weatherCache = new WeatherCache(
+            weatherClient, new SimpleMeterRegistry(), 0, 60_000, 600_000, 1_000
+    );
+
+    @Test
+    void 만료된_값도_요청_스레드에서는_재조회하지_않고_사용한다() {
+        // given
+        when(weatherClient.getWeatherForecast()).thenReturn(Map.of(MonthDay.now(), "Sunny"));
+
+        // when
+        String first = weatherCache.getTodayWeather();
+        String second = weatherCache.getTodayWeather();
+
+        // then
+        assertThat(first).isEqualTo("Sunny");
+        assertThat(second).isEqualTo("Sunny");
+        verify(weatherClient, times(1)).getWeatherForecast();
+    }
+
+    @Test
+    void 갱신_실패_후에는_기존_값을_유지하고_backoff_동안_재호출하지_않는다() {
+        // given
+        when(weatherClient.getWeatherForecast())
+                .thenReturn(Map.of(MonthDay.now(), "Sunny"))
+                .thenThrow(new RuntimeException("upstream down"));
+        weatherCache.refreshIfExpired();
+
+        // when
+        weatherCache.refresh();
+        weatherCache.refresh();
+
+        // then
+        assertThat(weatherCache.getTodayWeather()).isEqualTo("Sunny");
+        verify(weatherClient, times(2)).getWeatherForecast();
+    }
+
+    @Test
+    void 오늘_날씨가_없고_backoff_중이면_외부_API_를_호출하지_않고_실패한다() {
+        // given
+        when(weatherClient.getWeatherForecast()).thenThrow(new RuntimeException("upstream down"));
+
+        // when & then
+        assertThrows(ServerException.class, weatherCache::getTodayWeather);
+        assertThrows(ServerException.class, weatherCache::getTodayWeather);
+        verify(weatherClient, times(1)).getWeatherForecast();
+    }
+}
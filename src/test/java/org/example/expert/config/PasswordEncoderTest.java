@@ -0,0 +1,68 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        if (passwordEncoder != null) {
+            passwordEncoder.shutdown();
+        }
+    }
+
+    @Test
+    void 저장된_해시의_cost가_설정과_다르면_재해시가_필요하다() {
+        // given
+        passwordEncoder = new PasswordEncoder(meterRegistry, 4, 1, 1, 10_000);
+        String sameCost = passwordEncoder.encode("password");
+        String otherCost = new PasswordEncoder(new SimpleMeterRegistry(), 5, 1, 1, 10_000).encode("password");
+
+        // when & then
+        assertThat(passwordEncoder.needsRehash(sameCost)).isFalse();
+        assertThat(passwordEncoder.needsRehash(otherCost)).isTrue();
+        assertThat(passwordEncoder.needsRehash("not-a-bcrypt-hash")).isTrue();
+        assertThat(passwordEncoder.matches("password", otherCost)).isTrue();
+    }
+
+    @Test
+    void 대기_시간이_제한을_넘으면_503으로_거절한다() {
+        // given
+        passwordEncoder = new PasswordEncoder(meterRegistry, 12, 1, 1, 1);
+
+        // when & then
+        assertThrows(ServiceUnavailableException.class, () -> passwordEncoder.encode("password"));
+        assertThat(meterRegistry.counter("password.hash.rejected", "reason", "timeout").count()).isEqualTo(1);
+    }
+
+    @Test
+    void 대기열이_가득_차면_기다리지_않고_503으로_거절한다() throws Exception {
+        // given: 스레드 1개가 연산 중이고 대기열 1칸이 찬 상태
+        passwordEncoder = new PasswordEncoder(meterRegistry, 14, 1, 1, 60_000);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("a"));
+        while (meterRegistry.get("password.hash.queue.wait").timer().count() == 0) {
+            Thread.sleep(1);
+        }
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("b"));
+        while (meterRegistry.get("password.hash.queue.size").gauge().value() < 1) {
+            Thread.sleep(1);
+        }
+
+        // when & then
+        assertThrows(ServiceUnavailableException.class, () -> passwordEncoder.encode("c"));
+        assertThat(meterRegistry.counter("password.hash.rejected", "reason", "queue-full").count()).isEqualTo(1);
+        running.cancel(true);
+        queued.cancel(true);
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.expert.domain.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.auth.dto.request.SigninRequest;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.NicknameAutocompleteIndex;
+import org.example.expert.domain.user.service.UserNicknameIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuthServiceTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final JwtUtil jwtUtil = mock(JwtUtil.class);
+    private final PasswordEncoder passwordEncoder = new PasswordEncoder(new SimpleMeterRegistry(), 4, 1, 0, 10_000);
+
+    private final AuthService authService = new AuthService(
+            userRepository, passwordEncoder, jwtUtil, mock(UserNicknameIndex.class), mock(NicknameAutocompleteIndex.class)
+    );
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.shutdown();
+    }
+
+    @Test
+    void 로그인_시_cost가_다른_해시는_재해시하여_저장한다() {
+        // given
+        PasswordEncoder oldEncoder = new PasswordEncoder(new SimpleMeterRegistry(), 5, 1, 0, 10_000);
+        String oldHash = oldEncoder.encode("password");
+        oldEncoder.shutdown();
+        User user = user(oldHash);
+        when(userRepository.findByEmail("a@a.com")).thenReturn(Optional.of(user));
+        when(jwtUtil.createToken(anyLong(), anyString(), any(), any())).thenReturn("Bearer token");
+
+        // when
+        authService.signin(new SigninRequest("a@a.com", "password"));
+
+        // then
+        verify(userRepository).updatePasswordIfUnchanged(
+                eq(1L), eq(oldHash), argThat(hash -> !passwordEncoder.needsRehash(hash) && passwordEncoder.matches("password", hash))
+        );
+    }
+
+    @Test
+    void 로그인_시_cost가_같은_해시는_재해시하지_않는다() {
+        // given
+        User user = user(passwordEncoder.encode("password"));
+        when(userRepository.findByEmail("a@a.com")).thenReturn(Optional.of(user));
+        when(jwtUtil.createToken(anyLong(), anyString(), any(), any())).thenReturn("Bearer token");
+
+        // when
+        authService.signin(new SigninRequest("a@a.com", "password"));
+
+        // then
+        verify(userRepository, never()).updatePasswordIfUnchanged(anyLong(), anyString(), anyString());
+    }
+
+    private static User user(String password) {
+        User user = new User("a@a.com", password, UserRole.ROLE_USER, "nickname");
+        ReflectionTestUtils.setField(user, "id", 1L);
+        return user;
+    }
+}
@@ -0,0 +1,103 @@
+package org.example.expert.domain.comment.repository;
+
+import org.example.expert.Config.QueryDslTestConfig;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@EnableJpaAuditing
+@Import(QueryDslTestConfig.class)
+class CommentRepositoryQueryImplTest {
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void 댓글을_커서로_나누어_작성순으로_조회한다() {
+        // given
+        User user = userRepository.save(new User("test@example.com", "password", UserRole.ROLE_USER, "commenter"));
+        Todo todo = todoRepository.save(new Todo("Title", "Contents", "Sunny", user));
+        Todo otherTodo = todoRepository.save(new Todo("Other", "Contents", "Sunny", user));
+        for (int i = 1; i <= 3; i++) {
+            commentRepository.save(new Comment("댓글 " + i, user, todo));
+        }
+        commentRepository.save(new Comment("다른 일정 댓글", user, otherTodo));
+
+        // when
+        CursorResponse<CommentResponse> firstPage = commentRepository.findCommentsByTodoIdWithCursor(todo.getId(), null, 2);
+        CursorResponse<CommentResponse> secondPage = commentRepository.findCommentsByTodoIdWithCursor(
+                todo.getId(), Cursor.decode(firstPage.getNextCursor()), 2
+        );
+
+        // then
+        assertThat(firstPage.getContent()).extracting(CommentResponse::getContents).containsExactly("댓글 1", "댓글 2");
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(firstPage.getContent().get(0).getUser().getEmail()).isEqualTo("test@example.com");
+
+        assertThat(secondPage.getContent()).extracting(CommentResponse::getContents).containsExactly("댓글 3");
+        assertThat(secondPage.isHasNext()).isFalse();
+        assertThat(secondPage.getNextCursor()).isNull();
+    }
+
+    @Test
+    void id_순서와_작성_시각_순서가_달라도_작성_시각_순으로_빠짐없이_조회한다() {
+        // given
+        User user = userRepository.save(new User("test@example.com", "password", UserRole.ROLE_USER, "commenter"));
+        Todo todo = todoRepository.save(new Todo("Title", "Contents", "Sunny", user));
+        Comment late = commentRepository.save(new Comment("나중 댓글", user, todo));
+        Comment early = commentRepository.save(new Comment("먼저 댓글", user, todo));
+        Comment middle = commentRepository.save(new Comment("중간 댓글", user, todo));
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        // 다른 인스턴스가 먼저 할당받은 id 블록으로 나중에 저장한 경우처럼 id 가 작은 댓글의 작성 시각이 가장 늦음
+        setCreatedAt(late, base.plusMinutes(2));
+        setCreatedAt(early, base);
+        setCreatedAt(middle, base.plusMinutes(1));
+
+        // when
+        CursorResponse<CommentResponse> firstPage = commentRepository.findCommentsByTodoIdWithCursor(todo.getId(), null, 1);
+        CursorResponse<CommentResponse> secondPage = commentRepository.findCommentsByTodoIdWithCursor(
+                todo.getId(), Cursor.decode(firstPage.getNextCursor()), 2
+        );
+
+        // then
+        assertThat(firstPage.getContent()).extracting(CommentResponse::getContents).containsExactly("먼저 댓글");
+        assertThat(secondPage.getContent()).extracting(CommentResponse::getContents).containsExactly("중간 댓글", "나중 댓글");
+        assertThat(secondPage.isHasNext()).isFalse();
+    }
+
+    private void setCreatedAt(Comment comment, LocalDateTime createdAt) {
+        entityManager.flush();
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE comments SET created_at = ? WHERE id = ?")
+                .setParameter(1, createdAt)
+                .setParameter(2, comment.getId())
+                .executeUpdate();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.expert.domain.comment.service;
+
+import org.example.expert.Config.QueryDslTestConfig;
+import org.example.expert.domain.comment.dto.request.CommentBatchSaveRequest;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@EnableJpaAuditing
+@Import({CommentService.class, QueryDslTestConfig.class})
+class CommentServiceTest {
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void 댓글_일괄_등록_시_모두_저장하고_댓글_수를_등록_건수만큼_증가시킨다() {
+        // given
+        User user = userRepository.save(new User("test@example.com", "password", UserRole.ROLE_USER, "commenter"));
+        Todo todo = todoRepository.save(new Todo("Title", "Contents", "Sunny", user));
+        AuthUser authUser = new AuthUser(user.getId(), user.getEmail(), user.getUserRole());
+        CommentBatchSaveRequest request = new CommentBatchSaveRequest(List.of(
+                new CommentSaveRequest("댓글 1"),
+                new CommentSaveRequest("댓글 2"),
+                new CommentSaveRequest("댓글 3")
+        ));
+
+        // when
+        List<CommentSaveResponse> responses = commentService.saveComments(authUser, todo.getId(), request);
+
+        // then
+        assertThat(responses).extracting(CommentSaveResponse::getContents).containsExactly("댓글 1", "댓글 2", "댓글 3");
+        assertThat(responses).allSatisfy(response -> assertThat(response.getId()).isNotNull());
+        assertThat(commentRepository.count()).isEqualTo(3L);
+        assertThat(todoRepository.findById(todo.getId()).orElseThrow().getCommentCount()).isEqualTo(3L);
+    }
+
+    @Test
+    void 작성_시각이_없는_댓글_커서는_거부한다() {
+        // given
+        String idOnlyCursor = new Cursor(null, 1L).encode();
+
+        // when & then
+        assertThatThrownBy(() -> commentService.getCommentsByCursor(1L, idOnlyCursor, 10))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("유효하지 않은 커서입니다.");
+    }
+
+    @Test
+    void 페이지_없는_목록_조회는_최대_개수까지만_반환하고_잘린_경우_다음_커서를_알려준다() {
+        // given: 최대 개수(100)보다 1개 많은 댓글
+        User user = userRepository.save(new User("test@example.com", "password", UserRole.ROLE_USER, "commenter"));
+        Todo todo = todoRepository.save(new Todo("Title", "Contents", "Sunny", user));
+        AuthUser authUser = new AuthUser(user.getId(), user.getEmail(), user.getUserRole());
+        List<CommentSaveRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 101; i++) {
+            requests.add(new CommentSaveRequest("댓글 " + i));
+        }
+        commentService.saveComments(authUser, todo.getId(), new CommentBatchSaveRequest(requests));
+
+        // when
+        CursorResponse<CommentResponse> firstPage = commentService.getComments(todo.getId());
+        CursorResponse<CommentResponse> rest = commentService.getCommentsByCursor(todo.getId(), firstPage.getNextCursor(), 100);
+
+        // then
+        assertThat(firstPage.getContent()).hasSize(100);
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(rest.getContent()).hasSize(1);
+        assertThat(rest.isHasNext()).isFalse();
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.expert.domain.image;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@EnableJpaAuditing
+@Import(ImageHashIndex.class)
+class ImageHashIndexTest {
+
+    private static final String HASH = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+
+    @Autowired
+    private ImageHashIndex imageHashIndex;
+
+    @Autowired
+    private ImageObjectRepository imageObjectRepository;
+
+    @Test
+    void 등록된_해시는_저장된_URL_반환() {
+        // given
+        ImageResponse response = new ImageResponse(
+                "https://bucket/images/" + HASH + ".png",
+                "https://bucket/images/thumbnail/" + HASH + ".jpg",
+                "https://bucket/images/medium/" + HASH + ".jpg"
+        );
+
+        // when
+        imageHashIndex.register(HASH, response);
+        Optional<ImageResponse> found = imageHashIndex.find(HASH);
+
+        // then
+        assertThat(found).isPresent();
+        assertThat(found.get().getImageURL()).isEqualTo(response.getImageURL());
+        assertThat(found.get().getThumbnailURL()).isEqualTo(response.getThumbnailURL());
+        assertThat(found.get().getMediumURL()).isEqualTo(response.getMediumURL());
+    }
+
+    @Test
+    void 같은_해시를_다시_등록해도_한_건만_저장() {
+        // given
+        ImageResponse response = new ImageResponse("image", "thumbnail", "medium");
+
+        // when
+        imageHashIndex.register(HASH, response);
+        imageHashIndex.register(HASH, response);
+
+        // then
+        assertThat(imageObjectRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void 등록되지_않은_해시는_빈_결과() {
+        assertThat(imageHashIndex.find(HASH)).isEmpty();
+    }
+}
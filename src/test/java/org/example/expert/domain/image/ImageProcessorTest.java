@@ -0,0 +1,62 @@
+package org.example.expert.domain.image;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageProcessorTest {
+
+    private final ImageProcessor imageProcessor = new ImageProcessor(200, 800, 0.8f, 50_000_000L, 1, 10);
+
+    @AfterEach
+    void tearDown() {
+        imageProcessor.shutdown();
+    }
+
+    @Test
+    void 원본_크기_변환본은_크기를_유지하고_EXIF_메타데이터를_포함하지_않는다() throws Exception {
+        // given
+        byte[] upload = withExif(jpeg(1000, 500), "GPS 37.5665,126.9780");
+
+        // when
+        Map<ImageVariant, byte[]> variants = imageProcessor.process(new ByteArrayInputStream(upload));
+
+        // then
+        BufferedImage original = ImageIO.read(new ByteArrayInputStream(variants.get(ImageVariant.ORIGINAL)));
+        assertThat(original.getWidth()).isEqualTo(1000);
+        assertThat(original.getHeight()).isEqualTo(500);
+        assertThat(ImageIO.read(new ByteArrayInputStream(variants.get(ImageVariant.THUMBNAIL))).getWidth()).isEqualTo(200);
+        for (byte[] variant : variants.values()) {
+            assertThat(new String(variant, StandardCharsets.ISO_8859_1)).doesNotContain("Exif", "GPS");
+        }
+    }
+
+    private static byte[] jpeg(int width, int height) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "jpeg", outputStream);
+        return outputStream.toByteArray();
+    }
+
+    // SOI 바로 뒤에 APP1(Exif) 세그먼트 삽입
+    private static byte[] withExif(byte[] jpeg, String payload) {
+        byte[] body = ("Exif\0\0" + payload).getBytes(StandardCharsets.ISO_8859_1);
+        int length = body.length + 2;
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        outputStream.write(jpeg, 0, 2);
+        outputStream.write(0xFF);
+        outputStream.write(0xE1);
+        outputStream.write(length >> 8);
+        outputStream.write(length & 0xFF);
+        outputStream.write(body, 0, body.length);
+        outputStream.write(jpeg, 2, jpeg.length - 2);
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.expert.domain.log;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AuditLogWriterTest {
+
+    @TempDir
+    private Path walDirectory;
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(
+            new DriverManagerDataSource("jdbc:h2:mem:audit-log-writer-test;DB_CLOSE_DELAY=-1")
+    );
+
+    private AuditLogWriter auditLogWriter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS log");
+        // 버퍼 2칸, 자리 대기 10ms
+        auditLogWriter = new AuditLogWriter(jdbcTemplate, walDirectory.toString(), 2, 500, 10, 1_048_576, true, 10, 1_000);
+        auditLogWriter.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        createLogTable();
+        auditLogWriter.stop();
+    }
+
+    @Test
+    void DB_기록이_실패하는_동안_버퍼가_차면_요청을_기다리게_하지_않고_503으로_거절한다() {
+        // given: log 테이블이 없어 flusher 의 INSERT 가 계속 실패
+
+        // when & then
+        assertThrows(ServiceUnavailableException.class, () -> {
+            for (int i = 0; i < 1_000; i++) {
+                auditLogWriter.append(1L, 1L, (long) i);
+            }
+        });
+    }
+
+    @Test
+    void DB_가_복구되면_밀린_로그를_모두_기록한다() {
+        // given
+        auditLogWriter.append(1L, 1L, 2L);
+        auditLogWriter.append(1L, 1L, 3L);
+        createLogTable();
+
+        // when
+        auditLogWriter.flush();
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM log", Long.class)).isEqualTo(2L);
+    }
+
+    @Test
+    void 버퍼_크기보다_많은_로그를_한_번에_기록하면_기다리지_않고_거절한다() {
+        // when & then
+        assertThrows(InvalidRequestException.class, () -> auditLogWriter.appendAll(1L, 1L, List.of(1L, 2L, 3L)));
+    }
+
+    @Test
+    void 기록_중인_배치가_있을_때_종료해도_그_배치와_이후_로그를_모두_기록한다() throws Exception {
+        // given: log 테이블이 없어 flusher 가 첫 로그를 꺼낸 채 재시도 대기 중
+        auditLogWriter.append(1L, 1L, 2L);
+        Thread.sleep(300);
+        auditLogWriter.append(1L, 1L, 3L);
+        createLogTable();
+
+        // when
+        auditLogWriter.stop();
+
+        // then
+        assertThat(jdbcTemplate.queryForList("SELECT target_user_id FROM log ORDER BY id", Long.class))
+                .containsExactly(2L, 3L);
+    }
+
+    private void createLogTable() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS log (id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "request_user_id BIGINT, target_todo_id BIGINT, target_user_id BIGINT, created_at TIMESTAMP)");
+    }
+}
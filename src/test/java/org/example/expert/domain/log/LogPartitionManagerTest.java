@@ -0,0 +1,50 @@
+package org.example.expert.domain.log;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "audit-log.retention-months=3")
+@Import(LogPartitionManager.class)
+class LogPartitionManagerTest {
+
+    @Autowired
+    private LogPartitionManager logPartitionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 파티션을_지원하지_않는_DB_에서는_보관_기간이_지난_로그를_삭제한다() {
+        // given: 보관 기간 3개월 (이번 달 포함)
+        LocalDateTime oldestRetained = YearMonth.now().minusMonths(2).atDay(1).atStartOfDay();
+        insert(oldestRetained.minusNanos(1000));
+        insert(oldestRetained);
+        insert(LocalDateTime.now());
+
+        // when
+        logPartitionManager.maintain();
+
+        // then
+        assertThat(jdbcTemplate.queryForList("SELECT created_at FROM log", Timestamp.class))
+                .extracting(Timestamp::toLocalDateTime)
+                .doesNotContain(oldestRetained.minusNanos(1000))
+                .contains(oldestRetained)
+                .hasSize(2);
+    }
+
+    private void insert(LocalDateTime createdAt) {
+        jdbcTemplate.update(
+                "INSERT INTO log (request_user_id, target_todo_id, target_user_id, created_at) VALUES (1, 1, 2, ?)",
+                Timestamp.valueOf(createdAt)
+        );
+    }
+}
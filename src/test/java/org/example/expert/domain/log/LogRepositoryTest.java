@@ -0,0 +1,77 @@
+package org.example.expert.domain.log;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class LogRepositoryTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2024, 3, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2024, 4, 1, 0, 0);
+
+    @Autowired
+    private LogRepository logRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // 기간 경계 앞뒤의 로그 (to 는 포함하지 않음)
+        insert(1L, 10L, 2L, FROM.minusNanos(1000));
+        insert(1L, 10L, 2L, FROM);
+        insert(1L, 10L, 3L, FROM.plusDays(10));
+        insert(4L, 10L, 2L, FROM.plusDays(20));
+        insert(1L, 20L, 2L, FROM.plusDays(5));
+        insert(1L, 10L, 2L, TO);
+    }
+
+    @Test
+    void 일정_기준으로_기간_내_로그를_최신순으로_나누어_조회한다() {
+        // when
+        Slice<Log> first = logRepository.findByTargetTodoIdAndPeriod(10L, FROM, TO, PageRequest.of(0, 2));
+        Slice<Log> second = logRepository.findByTargetTodoIdAndPeriod(10L, FROM, TO, PageRequest.of(1, 2));
+
+        // then
+        assertThat(first.getContent()).extracting(Log::getCreatedAt).containsExactly(FROM.plusDays(20), FROM.plusDays(10));
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).extracting(Log::getCreatedAt).containsExactly(FROM);
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    void 대상_유저_기준으로_기간_내_로그를_조회한다() {
+        // when
+        Slice<Log> logs = logRepository.findByTargetUserIdAndPeriod(2L, FROM, TO, PageRequest.of(0, 10));
+
+        // then
+        assertThat(logs.getContent()).extracting(Log::getCreatedAt)
+                .containsExactly(FROM.plusDays(20), FROM.plusDays(5), FROM);
+    }
+
+    @Test
+    void 요청_유저_기준으로_기간_내_로그를_조회한다() {
+        // when
+        Slice<Log> logs = logRepository.findByRequestUserIdAndPeriod(4L, FROM, TO, PageRequest.of(0, 10));
+
+        // then
+        assertThat(logs.getContent()).extracting(Log::getTargetUserId).containsExactly(2L);
+    }
+
+    private void insert(Long requestUserId, Long targetTodoId, Long targetUserId, LocalDateTime createdAt) {
+        jdbcTemplate.update(
+                "INSERT INTO log (request_user_id, target_todo_id, target_user_id, created_at) VALUES (?, ?, ?, ?)",
+                requestUserId, targetTodoId, targetUserId, Timestamp.valueOf(createdAt)
+        );
+    }
+}
@@ -3,10 +3,18 @@ package org.example.expert.domain.manager.service;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import org.example.expert.domain.log.AuditLogWriter;
 import org.example.expert.domain.log.Log;
 import org.example.expert.domain.log.LogRepository;
 import org.example.expert.domain.log.LogService;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.request.ManagerBatchSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.repository.UserRepository;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.junit.jupiter.api.Test;
@@ -23,10 +31,10 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
-@DataJpaTest
+@DataJpaTest(properties = "audit-log.wal-directory=build/audit-wal-test")
 @Transactional
 @EnableJpaAuditing
-@Import({ManagerService.class, LogService.class})
+@Import({ManagerService.class, LogService.class, AuditLogWriter.class})
 class ManagerServiceTest {
 
     @TestConfiguration
@@ -46,6 +54,15 @@ class ManagerServiceTest {
     @Autowired
     private LogRepository logRepository;
 
+    @Autowired
+    private AuditLogWriter auditLogWriter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
     @Test
     void 매니저_생성_실패해도_로그_남김() {
         // given
@@ -57,6 +74,7 @@ class ManagerServiceTest {
         assertThrows(Exception.class, () -> managerService.saveManager(requestUser, todoId, managerSaveRequest));
 
         // then
+        auditLogWriter.flush();
         List<Log> logs = logRepository.findAll();
         assertThat(logs).hasSize(1);
         Log log = logs.get(0);
@@ -65,4 +83,73 @@ class ManagerServiceTest {
         assertThat(log.getTargetUserId()).isEqualTo(managerSaveRequest.getManagerUserId());
         assertThat(log.getCreatedAt()).isNotNull();
     }
+
+    @Test
+    void 매니저_등록_시_일정의_담당자_수가_증가한다() {
+        // given
+        User owner = userRepository.save(new User("owner@test.com", "password", UserRole.ROLE_USER, "owner"));
+        User manager = userRepository.save(new User("manager@test.com", "password", UserRole.ROLE_USER, "manager"));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", owner));
+        AuthUser authUser = new AuthUser(owner.getId(), owner.getEmail(), owner.getUserRole());
+
+        // when
+        managerService.saveManager(authUser, todo.getId(), new ManagerSaveRequest(manager.getId()));
+
+        // then
+        assertThat(todoRepository.findById(todo.getId()).orElseThrow().getManagerCount()).isEqualTo(2L);
+    }
+
+    @Test
+    void 담당자_일괄_등록_시_중복_id는_한_번만_등록하고_담당자_수를_등록_건수만큼_증가시킨다() {
+        // given
+        User owner = userRepository.save(new User("owner@test.com", "password", UserRole.ROLE_USER, "owner"));
+        User manager1 = userRepository.save(new User("manager1@test.com", "password", UserRole.ROLE_USER, "manager1"));
+        User manager2 = userRepository.save(new User("manager2@test.com", "password", UserRole.ROLE_USER, "manager2"));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", owner));
+        AuthUser authUser = new AuthUser(owner.getId(), owner.getEmail(), owner.getUserRole());
+        ManagerBatchSaveRequest request = new ManagerBatchSaveRequest(
+                List.of(manager1.getId(), manager2.getId(), manager1.getId())
+        );
+
+        // when
+        List<ManagerSaveResponse> responses = managerService.saveManagers(authUser, todo.getId(), request);
+
+        // then
+        assertThat(responses).extracting(response -> response.getUser().getId())
+                .containsExactly(manager1.getId(), manager2.getId());
+        assertThat(todoRepository.findById(todo.getId()).orElseThrow().getManagerCount()).isEqualTo(3L);
+    }
+
+    @Test
+    void 담당자_일괄_등록_시_존재하지_않는_유저_id를_모두_알려준다() {
+        // given
+        User owner = userRepository.save(new User("owner@test.com", "password", UserRole.ROLE_USER, "owner"));
+        User manager = userRepository.save(new User("manager@test.com", "password", UserRole.ROLE_USER, "manager"));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", owner));
+        AuthUser authUser = new AuthUser(owner.getId(), owner.getEmail(), owner.getUserRole());
+        ManagerBatchSaveRequest request = new ManagerBatchSaveRequest(List.of(manager.getId(), -1L, -2L));
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> managerService.saveManagers(authUser, todo.getId(), request));
+
+        // then
+        assertThat(exception.getMessage()).contains("[-1, -2]");
+        assertThat(todoRepository.findById(todo.getId()).orElseThrow().getManagerCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void 담당자_일괄_등록_시_일정_작성자_본인은_담당자로_등록할_수_없다() {
+        // given
+        User owner = userRepository.save(new User("owner@test.com", "password", UserRole.ROLE_USER, "owner"));
+        User manager = userRepository.save(new User("manager@test.com", "password", UserRole.ROLE_USER, "manager"));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", owner));
+        AuthUser authUser = new AuthUser(owner.getId(), owner.getEmail(), owner.getUserRole());
+        ManagerBatchSaveRequest request = new ManagerBatchSaveRequest(List.of(manager.getId(), owner.getId()));
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> managerService.saveManagers(authUser, todo.getId(), request));
+        assertThat(exception.getMessage()).isEqualTo("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
+    }
 }
@@ -1,8 +1,11 @@
 package org.example.expert.domain.todo.controller;
 
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.service.TodoBatchService;
+import org.example.expert.domain.todo.service.TodoExportService;
 import org.example.expert.domain.todo.service.TodoService;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
@@ -15,6 +18,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -30,6 +34,12 @@ class TodoControllerTest {
     @MockBean
     private TodoService todoService;
 
+    @MockBean
+    private TodoBatchService todoBatchService;
+
+    @MockBean
+    private TodoExportService todoExportService;
+
     @Test
     void todo_단건_조회에_성공한다() throws Exception {
         // given
@@ -74,4 +84,16 @@ class TodoControllerTest {
                 .andExpect(jsonPath("$.code").value(HttpStatus.BAD_REQUEST.value()))
                 .andExpect(jsonPath("$.message").value("Todo not found"));
     }
+
+    @Test
+    void cursor와_withTotal_파라미터를_함께_보내면_커서_조회로_처리한다() throws Exception {
+        // given
+        when(todoService.getTodosByCursor("", 10, null, null, null))
+                .thenReturn(new CursorResponse<>(List.of(), null, false));
+
+        // when & then
+        mockMvc.perform(get("/todos").param("cursor", "").param("withTotal", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
 }
@@ -0,0 +1,39 @@
+package org.example.expert.domain.todo.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodoCountCacheTest {
+
+    @Test
+    void 쿼리에_다르게_적용되는_조건은_다른_키가_된다() {
+        assertThat(TodoCountCache.key("todos", " ", null, null))
+                .isNotEqualTo(TodoCountCache.key("todos", null, null, null));
+        assertThat(TodoCountCache.key("search", "a ", null, null, null))
+                .isNotEqualTo(TodoCountCache.key("search", "a", null, null, null));
+        assertThat(TodoCountCache.key("search", "a|b", null, null, "c"))
+                .isNotEqualTo(TodoCountCache.key("search", "a", null, null, "b|c"));
+    }
+
+    @Test
+    void 같은_키는_count_쿼리를_한_번만_실행한다() {
+        TodoCountCache cache = new TodoCountCache(30, 100);
+        AtomicInteger queries = new AtomicInteger();
+
+        long first = cache.get("key", () -> {
+            queries.incrementAndGet();
+            return 7L;
+        });
+        long second = cache.get("key", () -> {
+            queries.incrementAndGet();
+            return 9L;
+        });
+
+        assertThat(first).isEqualTo(7L);
+        assertThat(second).isEqualTo(7L);
+        assertThat(queries.get()).isEqualTo(1);
+    }
+}
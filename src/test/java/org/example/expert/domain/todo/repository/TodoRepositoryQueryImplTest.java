@@ -3,8 +3,11 @@ package org.example.expert.domain.todo.repository;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
-import org.example.expert.domain.comment.entity.Comment;
-import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
 import org.example.expert.domain.todo.entity.Todo;
@@ -16,19 +19,23 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
 @DataJpaTest
 @EnableJpaAuditing
+@Import(CommentService.class)
 class TodoRepositoryQueryImplTest {
 
     @TestConfiguration
@@ -49,7 +56,7 @@ class TodoRepositoryQueryImplTest {
     private UserRepository userRepository;
 
     @Autowired
-    private CommentRepository commentRepository;
+    private CommentService commentService;
 
     private void setData(){
         User user = new User("test@example.com", "password", UserRole.ROLE_USER, "managerNickname");
@@ -69,13 +76,11 @@ class TodoRepositoryQueryImplTest {
         todoRepository.save(todo3);
         todoRepository.save(todo4);
 
-        Comment comment1 = new Comment("Contents 1", user, todo1);
-        Comment comment2 = new Comment("Contents 2", user, todo1);
-        Comment comment3 = new Comment("Contents 3", user, todo1);
-
-        commentRepository.save(comment1);
-        commentRepository.save(comment2);
-        commentRepository.save(comment3);
+        // 서비스를 통해 등록하여 댓글 수 카운터도 함께 증가
+        AuthUser authUser = new AuthUser(user.getId(), user.getEmail(), user.getUserRole());
+        commentService.saveComment(authUser, todo1.getId(), new CommentSaveRequest("Contents 1"));
+        commentService.saveComment(authUser, todo1.getId(), new CommentSaveRequest("Contents 2"));
+        commentService.saveComment(authUser, todo1.getId(), new CommentSaveRequest("Contents 3"));
     }
 
     @Test
@@ -124,4 +129,128 @@ class TodoRepositoryQueryImplTest {
         });
         assertThat(responses.get(3).getCountComments()).isEqualTo(3);
     }
-}
\ No newline at end of file
+
+    @Test
+    void findTodosByWeatherAndModifiedAtWithSlice() {
+        // given
+        setData();
+
+        Pageable pageable = PageRequest.of(0, 3);
+
+        // when
+        Slice<TodoResponse> first = todoRepository.findTodosByWeatherAndModifiedAtWithSlice(null, null, null, pageable);
+        Slice<TodoResponse> second = todoRepository.findTodosByWeatherAndModifiedAtWithSlice(null, null, null, pageable.next());
+
+        // then
+        assertThat(first.getContent().size()).isEqualTo(3);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent().size()).isEqualTo(1);
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    void findTodosByWeatherAndModifiedAtWithCursor() {
+        // given
+        setData();
+
+        int size = 3;
+
+        // when
+        CursorResponse<TodoResponse> first = todoRepository.findTodosByWeatherAndModifiedAtWithCursor(
+                null, null, null, null, size
+        );
+        CursorResponse<TodoResponse> second = todoRepository.findTodosByWeatherAndModifiedAtWithCursor(
+                null, null, null, Cursor.decode(first.getNextCursor()), size
+        );
+
+        // then
+        assertThat(first.getContent().size()).isEqualTo(3);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.getContent().size()).isEqualTo(1);
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+
+        // (modifiedAt, id) 내림차순으로 중복, 누락 없이 이어져야 함
+        List<TodoResponse> all = new ArrayList<>(first.getContent());
+        all.addAll(second.getContent());
+        for (int i = 1; i < all.size(); i++) {
+            TodoResponse previous = all.get(i - 1);
+            TodoResponse current = all.get(i);
+            boolean ordered = previous.getModifiedAt().isAfter(current.getModifiedAt())
+                    || (previous.getModifiedAt().isEqual(current.getModifiedAt()) && previous.getId() > current.getId());
+            assertThat(ordered).isTrue();
+        }
+        assertThat(all.stream().map(TodoResponse::getId).distinct().count()).isEqualTo(4L);
+    }
+
+    @Test
+    void findTodosByWeatherAndModifiedAtWithCursor_날씨_조건을_유지한다() {
+        // given
+        setData();
+
+        // when
+        CursorResponse<TodoResponse> first = todoRepository.findTodosByWeatherAndModifiedAtWithCursor(
+                "Sunny", null, null, null, 1
+        );
+        CursorResponse<TodoResponse> second = todoRepository.findTodosByWeatherAndModifiedAtWithCursor(
+                "Sunny", null, null, Cursor.decode(first.getNextCursor()), 1
+        );
+
+        // then
+        assertThat(first.getContent().get(0).getWeather()).isEqualTo("Sunny");
+        assertThat(second.getContent().get(0).getWeather()).isEqualTo("Sunny");
+        assertThat(second.isHasNext()).isFalse();
+    }
+
+    @Test
+    void searchTodosByTitleAndCreatedAtAndManagersWithCursor() {
+        // given
+        setData();
+
+        String keywordTitle = "Task";
+        String keywordNickname = "managerNickname";
+        int size = 3;
+
+        // when
+        CursorResponse<TodoSearchResponse> first = todoRepository.searchTodosByTitleAndCreatedAtAndManagersWithCursor(
+                keywordTitle, null, null, keywordNickname, null, size
+        );
+        CursorResponse<TodoSearchResponse> second = todoRepository.searchTodosByTitleAndCreatedAtAndManagersWithCursor(
+                keywordTitle, null, null, keywordNickname, Cursor.decode(first.getNextCursor()), size
+        );
+
+        // then
+        assertThat(first.getContent().size()).isEqualTo(3);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.getContent().size()).isEqualTo(1);
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+
+        List<Long> ids = new ArrayList<>();
+        first.getContent().forEach(response -> ids.add(response.getId()));
+        second.getContent().forEach(response -> ids.add(response.getId()));
+        assertThat(ids.stream().distinct().count()).isEqualTo(4L);
+    }
+
+    @Test
+    void recalculateCounts_어긋난_카운터만_보정한다() {
+        // given
+        setData();
+        List<Todo> todos = todoRepository.findAll();
+        Todo drifted = todos.get(1);
+        todoRepository.addCommentCount(drifted.getId(), 5);
+        todoRepository.addManagerCount(drifted.getId(), -1);
+        long fromId = todos.stream().mapToLong(Todo::getId).min().orElseThrow();
+        long toId = todos.stream().mapToLong(Todo::getId).max().orElseThrow() + 1;
+
+        // when
+        int repaired = todoRepository.recalculateCounts(fromId, toId);
+
+        // then
+        assertThat(repaired).isEqualTo(1);
+        Todo repairedTodo = todoRepository.findById(drifted.getId()).orElseThrow();
+        assertThat(repairedTodo.getCommentCount()).isEqualTo(0L);
+        assertThat(repairedTodo.getManagerCount()).isEqualTo(1L);
+        assertThat(todoRepository.recalculateCounts(fromId, toId)).isEqualTo(0);
+    }
+}
@@ -0,0 +1,207 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.example.expert.client.WeatherCache;
+import org.example.expert.config.IdBlockAllocator;
+import org.example.expert.config.IdGeneratorInitializer;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.response.TodoBatchItemResponse;
+import org.example.expert.domain.todo.dto.response.TodoBatchResponse;
+import org.example.expert.domain.todo.repository.TodoBulkRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@EnableJpaAuditing
+@Import({TodoBulkRepository.class, IdBlockAllocator.class, IdGeneratorInitializer.class})
+class TodoBatchServiceTest {
+
+    @Autowired
+    private TodoBulkRepository todoBulkRepository;
+
+    @Autowired
+    private IdBlockAllocator idBlockAllocator;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final WeatherCache weatherCache = mock(WeatherCache.class);
+
+    private AuthUser authUser;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(new User("owner@test.com", "password", UserRole.ROLE_USER, "owner"));
+        authUser = new AuthUser(user.getId(), user.getEmail(), user.getUserRole());
+        when(weatherCache.getTodayWeather()).thenReturn("Sunny");
+    }
+
+    @Test
+    void 항목을_chunk_단위로_저장하고_검증_실패_항목은_건너뛴다() throws IOException {
+        // given: chunk 크기 2, 세 번째 항목은 제목이 비어 있음
+        TodoBatchService todoBatchService = todoBatchService(2, 100);
+        String body = """
+                [
+                  {"title": "t0", "contents": "c0"},
+                  {"title": "t1", "contents": "c1"},
+                  {"title": "", "contents": "c2"},
+                  {"title": "t3", "contents": "c3"},
+                  {"title": "t4", "contents": "c4"}
+                ]
+                """;
+
+        // when
+        TodoBatchResponse response = todoBatchService.saveTodos(authUser, stream(body));
+
+        // then
+        assertThat(response.getWeather()).isEqualTo("Sunny");
+        assertThat(response.getSucceeded()).isEqualTo(4);
+        assertThat(response.getFailed()).isEqualTo(1);
+        assertThat(response.getResults()).extracting(TodoBatchItemResponse::getIndex).containsExactly(0, 1, 2, 3, 4);
+        assertThat(response.getResults().get(2).getError()).startsWith("title");
+        assertThat(response.getResults()).filteredOn(result -> result.getError() == null)
+                .extracting(TodoBatchItemResponse::getId).doesNotContainNull().doesNotHaveDuplicates();
+
+        List<Map<String, Object>> todos = jdbcTemplate.queryForList(
+                "SELECT title, weather, manager_count FROM todos WHERE user_id = ? ORDER BY id", authUser.getUserId()
+        );
+        assertThat(todos).extracting(row -> row.get("title")).containsExactly("t0", "t1", "t3", "t4");
+        assertThat(todos).allSatisfy(row -> {
+            assertThat(row.get("weather")).isEqualTo("Sunny");
+            assertThat(((Number) row.get("manager_count")).longValue()).isEqualTo(1L);
+        });
+    }
+
+    @Test
+    void 객체가_아니거나_필드_타입이_맞지_않는_항목은_실패로_기록하고_건너뛴다() throws IOException {
+        // given
+        TodoBatchService todoBatchService = todoBatchService(2, 100);
+        String body = """
+                [
+                  {"title": "t0", "contents": "c0"},
+                  "not an object",
+                  [1, 2],
+                  {"title": {"nested": true}, "contents": "c3"},
+                  {"title": "t4", "contents": "c4"}
+                ]
+                """;
+
+        // when
+        TodoBatchResponse response = todoBatchService.saveTodos(authUser, stream(body));
+
+        // then
+        assertThat(response.getSucceeded()).isEqualTo(2);
+        assertThat(response.getFailed()).isEqualTo(3);
+        assertThat(response.getResults()).filteredOn(result -> result.getError() != null)
+                .extracting(TodoBatchItemResponse::getIndex).containsExactlyInAnyOrder(1, 2, 3);
+        assertThat(response.getResults()).filteredOn(result -> result.getIndex() == 3)
+                .extracting(TodoBatchItemResponse::getError).singleElement().asString().startsWith("title");
+        assertThat(jdbcTemplate.queryForList("SELECT title FROM todos WHERE user_id = ? ORDER BY id", String.class, authUser.getUserId()))
+                .containsExactly("t0", "t4");
+    }
+
+    @Test
+    void 작성자를_각_일정의_담당자로_등록한다() throws IOException {
+        // given
+        TodoBatchService todoBatchService = todoBatchService(2, 100);
+        String body = "[{\"title\": \"t0\", \"contents\": \"c0\"}, {\"title\": \"t1\", \"contents\": \"c1\"}, {\"title\": \"t2\", \"contents\": \"c2\"}]";
+
+        // when
+        TodoBatchResponse response = todoBatchService.saveTodos(authUser, stream(body));
+
+        // then
+        for (TodoBatchItemResponse result : response.getResults()) {
+            List<Long> managerUserIds = jdbcTemplate.queryForList(
+                    "SELECT user_id FROM managers WHERE todo_id = ?", Long.class, result.getId()
+            );
+            assertThat(managerUserIds).containsExactly(authUser.getUserId());
+        }
+    }
+
+    @Test
+    void 최대_개수를_넘으면_이미_저장된_일정_수를_알려준다() {
+        // given: chunk 크기 2, 최대 3개 (앞의 2개는 커밋된 뒤 4번째 항목에서 중단)
+        TodoBatchService todoBatchService = todoBatchService(2, 3);
+        String body = "[{\"title\": \"t0\", \"contents\": \"c0\"}, {\"title\": \"t1\", \"contents\": \"c1\"}, " +
+                "{\"title\": \"t2\", \"contents\": \"c2\"}, {\"title\": \"t3\", \"contents\": \"c3\"}]";
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoBatchService.saveTodos(authUser, stream(body)));
+
+        // then
+        assertThat(exception.getMessage()).contains("앞의 2개 일정은 저장되었습니다.");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM todos WHERE user_id = ?", Long.class, authUser.getUserId()))
+                .isEqualTo(2L);
+    }
+
+    @Test
+    void 잘못된_JSON_이면_이전까지_저장된_일정_수를_알려준다() {
+        // given
+        TodoBatchService todoBatchService = todoBatchService(1, 100);
+        String body = "[{\"title\": \"t0\", \"contents\": \"c0\"}, {\"title\": ";
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoBatchService.saveTodos(authUser, stream(body)));
+
+        // then
+        assertThat(exception.getMessage()).contains("앞의 1개 일정은 저장되었습니다.");
+    }
+
+    @Test
+    void 요청_본문이_배열이_아니면_예외가_발생한다() {
+        // given
+        TodoBatchService todoBatchService = todoBatchService(2, 100);
+
+        // when & then
+        assertThrows(InvalidRequestException.class,
+                () -> todoBatchService.saveTodos(authUser, stream("{\"title\": \"t0\", \"contents\": \"c0\"}")));
+    }
+
+    private TodoBatchService todoBatchService(int chunkSize, int maxItems) {
+        return new TodoBatchService(
+                todoBulkRepository,
+                idBlockAllocator,
+                weatherCache,
+                new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                transactionManager,
+                chunkSize,
+                maxItems
+        );
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.Config.QueryDslTestConfig;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@EnableJpaAuditing
+@Import({TodoCounterRepairJob.class, QueryDslTestConfig.class})
+class TodoCounterRepairJobTest {
+
+    @Autowired
+    private TodoCounterRepairJob todoCounterRepairJob;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 기동_시_카운터가_채워지지_않은_일정이_있으면_실제_개수로_재계산한다() {
+        // given: 카운터 컬럼 추가 전부터 있던 일정처럼 카운터가 0
+        User user = userRepository.save(new User("test@example.com", "password", UserRole.ROLE_USER, "writer"));
+        Todo todo = todoRepository.saveAndFlush(new Todo("Title", "Contents", "Sunny", user));
+        commentRepository.saveAndFlush(new Comment("댓글", user, todo));
+        jdbcTemplate.update("UPDATE todos SET manager_count = 0, comment_count = 0 WHERE id = ?", todo.getId());
+
+        // when
+        todoCounterRepairJob.afterSingletonsInstantiated();
+
+        // then
+        Todo repaired = todoRepository.findById(todo.getId()).orElseThrow();
+        assertThat(repaired.getManagerCount()).isEqualTo(1L);
+        assertThat(repaired.getCommentCount()).isEqualTo(1L);
+    }
+}
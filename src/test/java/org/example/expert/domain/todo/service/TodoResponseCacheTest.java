@@ -0,0 +1,93 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.config.CacheConfig;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.CacheManager;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TodoResponseCacheTest {
+
+    private final CacheManager sharedCacheManager = new CacheConfig().sharedCacheManager(100, 60);
+
+    private TodoResponseCache newCache() {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("sharedCacheManager", sharedCacheManager));
+        return new TodoResponseCache(beanFactory.getBeanProvider(CacheManager.class), new SimpleMeterRegistry(), 100, 60);
+    }
+
+    private static TodoResponse todoResponse(long id) {
+        return new TodoResponse(id, "title", "contents", "Sunny", new UserResponse(1L, "a@a.com"),
+                LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    @Test
+    void 같은_일정은_loader_를_한_번만_호출한다() {
+        TodoResponseCache cache = newCache();
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return todoResponse(id);
+        });
+        TodoResponse cached = cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return todoResponse(id);
+        });
+
+        assertThat(cached.getId()).isEqualTo(1L);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 다른_인스턴스가_적재한_값은_공유_캐시에서_읽는다() {
+        newCache().get(1L, TodoResponseCacheTest::todoResponse);
+        AtomicInteger loads = new AtomicInteger();
+
+        newCache().get(1L, id -> {
+            loads.incrementAndGet();
+            return todoResponse(id);
+        });
+
+        assertThat(loads.get()).isEqualTo(0);
+    }
+
+    @Test
+    void evict_후에는_다시_적재한다() {
+        TodoResponseCache cache = newCache();
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return todoResponse(id);
+        });
+
+        cache.evict(1L);
+        cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return todoResponse(id);
+        });
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void loader_예외는_캐시하지_않는다() {
+        TodoResponseCache cache = newCache();
+
+        assertThrows(InvalidRequestException.class, () -> cache.get(1L, id -> {
+            throw new InvalidRequestException("Todo not found");
+        }));
+        TodoResponse loaded = cache.get(1L, TodoResponseCacheTest::todoResponse);
+
+        assertThat(loaded.getId()).isEqualTo(1L);
+    }
+}
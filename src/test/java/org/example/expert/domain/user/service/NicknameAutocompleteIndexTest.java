@@ -0,0 +1,150 @@
+package org.example.expert.domain.user.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NicknameAutocompleteIndexTest {
+
+    private final StubJdbcTemplate jdbcTemplate = new StubJdbcTemplate();
+    // 자동 병합이 일어나지 않도록 기준을 크게 두고 compact() 를 직접 호출
+    private final NicknameAutocompleteIndex index = new NicknameAutocompleteIndex(jdbcTemplate, 1_000);
+
+    @AfterEach
+    void tearDown() {
+        index.shutdown();
+    }
+
+    @Test
+    void 닉네임_변경으로_삭제된_닉네임은_배열에_있어도_조회되지_않는다() {
+        // given
+        load("kim", "kimchi", "lee");
+
+        // when
+        index.change("kimchi", "park");
+
+        // then
+        assertThat(index.autocomplete("kim", 10)).containsExactly("kim");
+        assertThat(index.autocomplete("pa", 10)).containsExactly("park");
+    }
+
+    @Test
+    void 배열_앞뒤와_사이에_추가된_닉네임을_정렬된_순서로_병합한다() {
+        // given
+        load("kimb", "kimd");
+
+        // when
+        index.add("kime");
+        index.add("kima");
+        index.add("kimc");
+
+        // then
+        assertThat(index.autocomplete("kim", 10)).containsExactly("kima", "kimb", "kimc", "kimd", "kime");
+    }
+
+    @Test
+    void 병합_도중_limit_에_도달하면_거기서_끊는다() {
+        // given
+        load("kimb", "kimd");
+        index.add("kima");
+        index.add("kimc");
+
+        // when & then
+        assertThat(index.autocomplete("kim", 3)).containsExactly("kima", "kimb", "kimc");
+        assertThat(index.autocomplete("kim", 1)).containsExactly("kima");
+    }
+
+    @Test
+    void 닉네임을_바꿨다가_되돌리면_원래_닉네임만_조회된다() {
+        // given
+        load("alpha");
+
+        // when
+        index.change("alpha", "beta");
+        index.change("beta", "alpha");
+
+        // then
+        assertThat(index.autocomplete("alpha", 10)).containsExactly("alpha");
+        assertThat(index.autocomplete("beta", 10)).isEmpty();
+    }
+
+    @Test
+    void 한글은_음절_단위_접두사로_조회한다() {
+        // given
+        load("김철수", "김영희", "이영희");
+
+        // when
+        index.add("김민수");
+
+        // then
+        assertThat(index.autocomplete("김", 10)).containsExactly("김민수", "김영희", "김철수");
+        assertThat(index.autocomplete("김영", 10)).containsExactly("김영희");
+        assertThat(index.autocomplete("영", 10)).isEmpty();
+    }
+
+    @Test
+    void 변경_목록을_배열로_합쳐도_조회_결과가_같다() {
+        // given
+        load("kimb", "kimd", "lee");
+        index.add("kima");
+        index.change("kimd", "kimz");
+        index.change("lee", "lee2");
+        List<String> before = index.autocomplete("", 10);
+
+        // when
+        index.compact();
+
+        // then
+        assertThat(index.autocomplete("", 10)).isEqualTo(before).containsExactly("kima", "kimb", "kimz", "lee2");
+    }
+
+    @Test
+    void 재생성_중에_반영된_변경은_새_색인에도_남는다() {
+        // given: 재생성이 DB 를 읽은 뒤 커밋된 가입과 닉네임 변경
+        load("kim");
+        jdbcTemplate.duringLoad = () -> {
+            index.add("late");
+            index.change("kim", "kim2");
+        };
+
+        // when
+        index.rebuild();
+
+        // then
+        assertThat(index.autocomplete("late", 10)).containsExactly("late");
+        assertThat(index.autocomplete("kim", 10)).containsExactly("kim2");
+    }
+
+    private void load(String... nicknames) {
+        jdbcTemplate.nicknames.addAll(List.of(nicknames));
+        index.rebuild();
+    }
+
+    // users 테이블 대신 메모리 목록을 돌려주는 JdbcTemplate (재생성 조회 직후 duringLoad 실행)
+    private static class StubJdbcTemplate extends JdbcTemplate {
+
+        private final List<String> nicknames = new ArrayList<>();
+        private Runnable duringLoad;
+
+        @Override
+        public List<Map<String, Object>> queryForList(String sql, Object... args) {
+            List<Map<String, Object>> rows = new ArrayList<>();
+            long lastId = ((Number) args[0]).longValue();
+            for (int i = (int) lastId; i < nicknames.size(); i++) {
+                rows.add(Map.of("id", (long) i + 1, "nickname", nicknames.get(i)));
+            }
+            if (duringLoad != null) {
+                Runnable action = duringLoad;
+                duringLoad = null;
+                action.run();
+            }
+            return rows;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.expert.domain.user.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserNicknameIndexTest {
+
+    private final StubJdbcTemplate jdbcTemplate = new StubJdbcTemplate();
+
+    @Test
+    void 대소문자와_악센트만_다른_닉네임도_있을_수_있다고_판단한다() {
+        // given
+        UserNicknameIndex index = index(true);
+        jdbcTemplate.nicknames.add("Kim");
+        index.rebuild();
+
+        // when & then
+        assertThat(index.mightExist("KIM")).isTrue();
+        assertThat(index.mightExist("kím")).isTrue();
+        assertThat(index.mightExist("ｋｉｍ")).isTrue();
+        assertThat(index.mightExist("lee")).isFalse();
+    }
+
+    @Test
+    void 재생성_중에_추가된_닉네임은_새_filter_에도_남는다() {
+        // given: 재생성이 DB 를 읽는 도중 가입이 커밋된 상황
+        UserNicknameIndex index = index(true);
+        index.rebuild();
+        jdbcTemplate.duringLoad = () -> index.add("late");
+
+        // when
+        index.rebuild();
+        index.rebuild();
+
+        // then
+        assertThat(index.mightExist("late")).isTrue();
+    }
+
+    @Test
+    void 재생성_조회에서_빠진_미커밋_닉네임은_한_주기_동안_유지된다() {
+        // given: 재생성 직전에 추가되었지만 아직 커밋되지 않아 DB 조회에서 빠진 닉네임
+        UserNicknameIndex index = index(true);
+        index.rebuild();
+        index.add("pending");
+
+        // when
+        index.rebuild();
+
+        // then
+        assertThat(index.mightExist("pending")).isTrue();
+    }
+
+    @Test
+    void 단일_인스턴스가_아니면_항상_DB_를_조회하도록_판단한다() {
+        // given
+        UserNicknameIndex index = index(false);
+        index.rebuild();
+
+        // when & then
+        assertThat(index.mightExist("anyone")).isTrue();
+    }
+
+    private UserNicknameIndex index(boolean singleInstance) {
+        return new UserNicknameIndex(jdbcTemplate, true, singleInstance, 1_000, 0.01);
+    }
+
+    // users 테이블 대신 메모리 목록을 돌려주는 JdbcTemplate
+    private static class StubJdbcTemplate extends JdbcTemplate {
+
+        private final List<String> nicknames = new ArrayList<>();
+        private Runnable duringLoad;
+
+        @Override
+        public <T> T queryForObject(String sql, Class<T> requiredType) {
+            return requiredType.cast((long) nicknames.size());
+        }
+
+        @Override
+        public List<Map<String, Object>> queryForList(String sql, Object... args) {
+            if (duringLoad != null) {
+                Runnable action = duringLoad;
+                duringLoad = null;
+                action.run();
+            }
+            List<Map<String, Object>> rows = new ArrayList<>();
+            long lastId = ((Number) args[0]).longValue();
+            for (int i = (int) lastId; i < nicknames.size(); i++) {
+                rows.add(Map.of("id", (long) i + 1, "nickname", nicknames.get(i)));
+            }
+            return rows;
+        }
+    }
+}